@@ -28,7 +28,8 @@ import lombok.ToString;
 @Table(name = "daily_reports", uniqueConstraints = @UniqueConstraint(columnNames = { "restaurant_id",
         "report_date" }), indexes = {
                 @Index(name = "idx_daily_report_restaurant", columnList = "restaurant_id"),
-                @Index(name = "idx_daily_report_date", columnList = "report_date")
+                // Batch job progress lookups (V3 migration)
+                @Index(name = "idx_daily_report_date_updated", columnList = "report_date, updated_at")
         })
 @Getter
 @Setter
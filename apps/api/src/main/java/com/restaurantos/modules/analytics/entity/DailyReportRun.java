@@ -0,0 +1,59 @@
+package com.restaurantos.modules.analytics.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.restaurantos.shared.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Progress of the daily report batch job for one report date. A restaurant
+ * counts as done for the run once its report was written at or after
+ * {@code startedAt}, so an interrupted run picks up with the restaurants it
+ * had not reached.
+ */
+@Entity
+@Table(name = "daily_report_runs", uniqueConstraints = @UniqueConstraint(columnNames = "report_date"), indexes = {
+        @Index(name = "idx_daily_report_run_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyReportRun extends BaseEntity {
+
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private DailyReportRunStatus status = DailyReportRunStatus.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "restaurants_total", nullable = false)
+    @Builder.Default
+    private Integer restaurantsTotal = 0;
+
+    @Column(name = "restaurants_done", nullable = false)
+    @Builder.Default
+    private Integer restaurantsDone = 0;
+}
@@ -0,0 +1,9 @@
+package com.restaurantos.modules.analytics.entity;
+
+/**
+ * Represents the state of a daily report batch run.
+ */
+public enum DailyReportRunStatus {
+    RUNNING, // Started; resumed by the next trigger if it did not finish
+    COMPLETED // Every restaurant has a report for the date
+}
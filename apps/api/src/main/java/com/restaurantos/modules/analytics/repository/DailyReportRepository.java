@@ -1,11 +1,14 @@
 package com.restaurantos.modules.analytics.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.analytics.entity.DailyReport;
@@ -34,4 +37,15 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, UUID>
      * @return a list of daily reports
      */
     List<DailyReport> findByRestaurantIdAndReportDateBetween(UUID restaurantId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Finds the restaurants whose report for a date was written at or after a
+     * given time, i.e. the ones a batch run started at that time has finished.
+     *
+     * @param date  the report date
+     * @param since the run start
+     * @return the ids of the restaurants already done
+     */
+    @Query("SELECT d.restaurant.id FROM DailyReport d WHERE d.reportDate = :date AND d.updatedAt >= :since")
+    List<UUID> findRestaurantIdsWrittenSince(@Param("date") LocalDate date, @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,37 @@
+package com.restaurantos.modules.analytics.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurantos.modules.analytics.entity.DailyReportRun;
+import com.restaurantos.modules.analytics.entity.DailyReportRunStatus;
+
+/**
+ * Repository for DailyReportRun entity. Progress is written with single-row
+ * updates so that concurrent workers never overwrite each other's counts.
+ */
+@Repository
+public interface DailyReportRunRepository extends JpaRepository<DailyReportRun, UUID> {
+
+    Optional<DailyReportRun> findByReportDate(LocalDate reportDate);
+
+    List<DailyReportRun> findByStatusOrderByReportDateAsc(DailyReportRunStatus status);
+
+    @Modifying
+    @Query("UPDATE DailyReportRun r SET r.restaurantsDone = r.restaurantsDone + 1 WHERE r.id = :id")
+    void incrementDone(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE DailyReportRun r SET r.status = :status, r.finishedAt = :finishedAt WHERE r.id = :id")
+    void finish(@Param("id") UUID id, @Param("status") DailyReportRunStatus status,
+            @Param("finishedAt") LocalDateTime finishedAt);
+}
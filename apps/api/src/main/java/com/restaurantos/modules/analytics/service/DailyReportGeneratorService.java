@@ -9,8 +9,9 @@ import java.util.UUID;
 public interface DailyReportGeneratorService {
 
     /**
-     * Generates a daily report for all restaurants for the previous day.
-     * This is intended to be called by a scheduled job.
+     * Generates a daily report for all restaurants for the previous day, first
+     * finishing any earlier run that was interrupted. This is intended to be
+     * called by a scheduled job.
      */
     void generateDailyReports();
 
@@ -1,96 +1,257 @@
 package com.restaurantos.modules.analytics.service.impl;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurantos.modules.analytics.dto.response.TopDishResponse;
 import com.restaurantos.modules.analytics.entity.DailyReport;
+import com.restaurantos.modules.analytics.entity.DailyReportRun;
+import com.restaurantos.modules.analytics.entity.DailyReportRunStatus;
 import com.restaurantos.modules.analytics.repository.DailyReportRepository;
+import com.restaurantos.modules.analytics.repository.DailyReportRunRepository;
 import com.restaurantos.modules.analytics.service.DailyReportGeneratorService;
-import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.repository.ArchivedOrderItemRepository;
+import com.restaurantos.modules.order.repository.ArchivedOrderRepository;
+import com.restaurantos.modules.order.repository.DailyOrderTotals;
 import com.restaurantos.modules.order.repository.OrderItemRepository;
 import com.restaurantos.modules.order.repository.OrderRepository;
-import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.shared.exception.ResourceNotFoundException;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Implementation of DailyReportGeneratorService.
+ * Batch implementation of DailyReportGeneratorService. A run spreads the
+ * restaurants over a bounded worker pool and writes each report in its own
+ * transaction from aggregate queries, never loading the orders themselves.
+ *
+ * <p>Progress is kept in a {@link DailyReportRun} per report date. A run that
+ * crashed, or in which some restaurants failed, stays {@code RUNNING} and is
+ * resumed at startup or by the next trigger, skipping the restaurants it had
+ * already finished.
  */
 @Service
-@RequiredArgsConstructor
+@Timed(value = "restaurantos.service", histogram = true)
 @Slf4j
 public class DailyReportGeneratorServiceImpl implements DailyReportGeneratorService {
 
+    private static final int TOP_DISHES_LIMIT = 10;
+
     private final RestaurantRepository restaurantRepository;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderItemRepository archivedOrderItemRepository;
     private final DailyReportRepository dailyReportRepository;
+    private final DailyReportRunRepository runRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+
+    // The scheduled trigger and the startup resume must not run side by side
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public DailyReportGeneratorServiceImpl(RestaurantRepository restaurantRepository,
+            OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            ArchivedOrderRepository archivedOrderRepository,
+            ArchivedOrderItemRepository archivedOrderItemRepository,
+            DailyReportRepository dailyReportRepository,
+            DailyReportRunRepository runRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.reports.daily.workers:4}") int workers) {
+        this.restaurantRepository = restaurantRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderItemRepository = archivedOrderItemRepository;
+        this.dailyReportRepository = dailyReportRepository;
+        this.runRepository = runRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+    }
 
     @Override
-    @Scheduled(cron = "0 0 1 * * *") // Runs at 1 AM every day
-    @Transactional
+    @Scheduled(cron = "${app.reports.daily.cron:0 0 1 * * *}") // Runs at 1 AM every day by default
     public void generateDailyReports() {
-        log.info("Starting daily report generation for all restaurants");
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        List<Restaurant> restaurants = restaurantRepository.findAll();
-
-        for (Restaurant restaurant : restaurants) {
-            try {
-                generateReportForRestaurant(restaurant.getId(), yesterday);
-            } catch (Exception e) {
-                log.error("Failed to generate daily report for restaurant: {}", restaurant.getId(), e);
+        if (!runLock.tryLock()) {
+            log.info("Daily report generation already in progress, skipping");
+            return;
+        }
+        try {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            for (DailyReportRun run : runRepository.findByStatusOrderByReportDateAsc(DailyReportRunStatus.RUNNING)) {
+                if (!run.getReportDate().equals(yesterday)) {
+                    execute(run);
+                }
             }
+
+            DailyReportRun run = runRepository.findByReportDate(yesterday).orElseGet(() -> startRun(yesterday));
+            if (run.getStatus() == DailyReportRunStatus.COMPLETED) {
+                log.info("Daily reports for {} already generated", yesterday);
+                return;
+            }
+            execute(run);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Finishes runs a crash left behind without waiting for the next trigger.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedRuns() {
+        if (!runRepository.findByStatusOrderByReportDateAsc(DailyReportRunStatus.RUNNING).isEmpty()) {
+            generateDailyReports();
         }
-        log.info("Finished daily report generation");
     }
 
     @Override
     @Transactional
     public void generateReportForRestaurant(UUID restaurantId, LocalDate date) {
-        log.info("Generating report for restaurant {} on date {}", restaurantId, date);
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new ResourceNotFoundException("Restaurant not found: " + restaurantId);
+        }
+        writeReport(restaurantId, date);
+    }
 
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RuntimeException("Restaurant not found: " + restaurantId));
+    private DailyReportRun startRun(LocalDate date) {
+        try {
+            return runRepository.save(DailyReportRun.builder()
+                    .reportDate(date)
+                    .startedAt(LocalDateTime.now())
+                    .restaurantsTotal((int) restaurantRepository.count())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // Another node started the same date first
+            return runRepository.findByReportDate(date).orElseThrow(() -> e);
+        }
+    }
 
-        LocalDateTime startOfDay = LocalDateTime.of(date, LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(date, LocalTime.MAX);
+    private void execute(DailyReportRun run) {
+        LocalDate date = run.getReportDate();
+        Set<UUID> done = new HashSet<>(dailyReportRepository.findRestaurantIdsWrittenSince(date, run.getStartedAt()));
+        List<UUID> pending = restaurantRepository.findAllIds().stream()
+                .filter(id -> !done.contains(id))
+                .toList();
+        log.info("Generating daily reports for {}: {} restaurants pending, {} already done", date, pending.size(),
+                done.size());
 
-        List<Order> dayOrders = orderRepository.findByRestaurantIdAndCreatedAtBetween(restaurantId, startOfDay,
-                endOfDay);
+        int failed = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("daily-report-"));
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (UUID restaurantId : pending) {
+                results.add(pool.submit(() -> generateInOwnTransaction(run, restaurantId)));
+            }
+            for (Future<Boolean> result : results) {
+                if (!result.get()) {
+                    failed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Daily report generation for {} interrupted, the run will resume later", date);
+            return;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Daily report worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
 
-        List<Order> completedOrders = dayOrders.stream()
-                .filter(o -> o.getStatus().name().equals("COMPLETED"))
-                .toList();
+        if (failed > 0) {
+            log.warn("Daily reports for {}: {} restaurants failed, the run will resume later", date, failed);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> runRepository.finish(run.getId(),
+                DailyReportRunStatus.COMPLETED, LocalDateTime.now()));
+        log.info("Finished daily reports for {}", date);
+    }
+
+    private boolean generateInOwnTransaction(DailyReportRun run, UUID restaurantId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                writeReport(restaurantId, run.getReportDate());
+                runRepository.incrementDone(run.getId());
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to generate daily report for restaurant {} on {}", restaurantId, run.getReportDate(),
+                    e);
+            return false;
+        }
+    }
 
-        BigDecimal totalRevenue = completedOrders.stream()
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void writeReport(UUID restaurantId, LocalDate date) {
+        log.debug("Generating report for restaurant {} on date {}", restaurantId, date);
 
-        int totalOrders = completedOrders.size();
+        LocalDateTime startOfDay = LocalDateTime.of(date, LocalTime.MIN);
+        LocalDateTime endOfDay = LocalDateTime.of(date, LocalTime.MAX);
 
+        // Only closed orders are archived, and one status at a time, so a day past the archive horizon can still
+        // have orders in the hot table. Such a day is summarized from both tables and the results merged
+        boolean archived = archivedOrderRepository.existsByRestaurantIdAndCreatedAtBetween(restaurantId, startOfDay,
+                endOfDay);
+        boolean hot = !archived || orderRepository.existsByRestaurantIdAndCreatedAtBetween(restaurantId, startOfDay,
+                endOfDay);
+        DailyOrderTotals totals;
+        List<TopDishResponse> topDishes;
+        if (archived && hot) {
+            totals = summarizeBothTables(restaurantId, startOfDay, endOfDay);
+            topDishes = topDishesOfBothTables(restaurantId, startOfDay, endOfDay);
+        } else if (archived) {
+            totals = archivedOrderRepository.summarizeDay(restaurantId, OrderStatus.COMPLETED, startOfDay, endOfDay);
+            topDishes = archivedOrderItemRepository.findTopSellingItems(restaurantId, OrderStatus.COMPLETED,
+                    startOfDay, endOfDay, PageRequest.of(0, TOP_DISHES_LIMIT));
+        } else {
+            totals = orderRepository.summarizeDay(restaurantId, OrderStatus.COMPLETED, startOfDay, endOfDay);
+            topDishes = orderItemRepository.findTopSellingItems(restaurantId, startOfDay, endOfDay,
+                    PageRequest.of(0, TOP_DISHES_LIMIT));
+        }
+        BigDecimal totalRevenue = totals.completedRevenue();
+        int totalOrders = totals.completedOrders().intValue();
         BigDecimal avgOrderValue = totalOrders > 0
-                ? totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, java.math.RoundingMode.HALF_UP)
+                ? totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP)
                 : BigDecimal.ZERO;
 
-        // Top dishes
-        List<TopDishResponse> topDishes = orderItemRepository.findTopSellingItems(
-                restaurantId, startOfDay, endOfDay, PageRequest.of(0, 10));
-
         String topSellingItemsJson = null;
         try {
             topSellingItemsJson = objectMapper.writeValueAsString(topDishes);
@@ -98,19 +259,9 @@ public class DailyReportGeneratorServiceImpl implements DailyReportGeneratorServ
             log.error("Failed to serialize top dishes to JSON", e);
         }
 
-        // Simplified customer counts for now
-        // In a real scenario, this would involve more complex logic based on
-        // customerPhone or unique customer identifiers
-        long totalCustomers = dayOrders.stream()
-                .map(Order::getCustomerPhone)
-                .filter(java.util.Objects::nonNull)
-                .distinct()
-                .count();
-
-        // Create or update daily report
         DailyReport report = dailyReportRepository.findByRestaurantIdAndReportDate(restaurantId, date)
-                .orElse(DailyReport.builder()
-                        .restaurant(restaurant)
+                .orElseGet(() -> DailyReport.builder()
+                        .restaurant(restaurantRepository.getReferenceById(restaurantId))
                         .reportDate(date)
                         .build());
 
@@ -118,9 +269,56 @@ public class DailyReportGeneratorServiceImpl implements DailyReportGeneratorServ
         report.setTotalOrders(totalOrders);
         report.setAvgOrderValue(avgOrderValue);
         report.setTopSellingItems(topSellingItemsJson);
-        report.setTotalCustomers((int) totalCustomers);
-        // newCustomers and avgPrepTime could be calculated here as well
+        // Customers are told apart by phone number; walk-ins without one are not counted
+        report.setTotalCustomers(totals.customers().intValue());
+        report.setNewCustomers(totals.newCustomers().intValue());
+        // Minutes, like MenuItem.prepTime
+        report.setAvgPrepTime(totals.avgPrepSeconds() != null ? totals.avgPrepSeconds() / 60 : null);
+        // Always write, even when nothing changed: a run counts the restaurant done by this timestamp
+        report.setUpdatedAt(LocalDateTime.now());
 
         dailyReportRepository.save(report);
     }
+
+    private DailyOrderTotals summarizeBothTables(UUID restaurantId, LocalDateTime start, LocalDateTime end) {
+        DailyOrderTotals hot = orderRepository.summarizeDay(restaurantId, OrderStatus.COMPLETED, start, end);
+        DailyOrderTotals archived = archivedOrderRepository.summarizeDay(restaurantId, OrderStatus.COMPLETED, start,
+                end);
+
+        // A customer may have orders of the day in both tables, so customers are counted over the union of phones.
+        // Each side already checks both tables for earlier orders, so the union of first-time phones is exact too
+        Set<String> customers = new HashSet<>(orderRepository.findCustomerPhones(restaurantId, start, end));
+        customers.addAll(archivedOrderRepository.findCustomerPhones(restaurantId, start, end));
+        Set<String> newCustomers = new HashSet<>(orderRepository.findNewCustomerPhones(restaurantId, start, end));
+        newCustomers.addAll(archivedOrderRepository.findNewCustomerPhones(restaurantId, start, end));
+
+        long preparedItems = hot.preparedItems() + archived.preparedItems();
+        Double avgPrepSeconds = preparedItems > 0
+                ? (weighted(hot) + weighted(archived)) / preparedItems
+                : null;
+        return new DailyOrderTotals(hot.completedRevenue().add(archived.completedRevenue()),
+                hot.completedOrders() + archived.completedOrders(), (long) customers.size(),
+                (long) newCustomers.size(), avgPrepSeconds, preparedItems);
+    }
+
+    private static double weighted(DailyOrderTotals totals) {
+        return totals.avgPrepSeconds() != null ? totals.avgPrepSeconds() * totals.preparedItems() : 0;
+    }
+
+    private List<TopDishResponse> topDishesOfBothTables(UUID restaurantId, LocalDateTime start, LocalDateTime end) {
+        // A dish can sell on both sides of the day, so both are read in full and added up before ranking
+        Map<UUID, TopDishResponse> dishes = new HashMap<>();
+        List<TopDishResponse> sold = new ArrayList<>(orderItemRepository.findTopSellingItems(restaurantId, start,
+                end, Pageable.unpaged()));
+        sold.addAll(archivedOrderItemRepository.findTopSellingItems(restaurantId, OrderStatus.COMPLETED, start, end,
+                Pageable.unpaged()));
+        for (TopDishResponse dish : sold) {
+            dishes.merge(dish.getMenuItemId(), dish, (a, b) -> new TopDishResponse(a.getMenuItemId(),
+                    a.getMenuItemName(), a.getQuantity() + b.getQuantity(), a.getRevenue().add(b.getRevenue())));
+        }
+        return dishes.values().stream()
+                .sorted(Comparator.comparing(TopDishResponse::getQuantity).reversed())
+                .limit(TOP_DISHES_LIMIT)
+                .toList();
+    }
 }
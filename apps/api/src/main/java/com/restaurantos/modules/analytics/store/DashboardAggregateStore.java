@@ -0,0 +1,400 @@
+package com.restaurantos.modules.analytics.store;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.restaurantos.modules.analytics.dto.response.DashboardSummaryResponse;
+import com.restaurantos.modules.analytics.dto.response.TopDishResponse;
+import com.restaurantos.modules.inventory.event.IngredientStockChangedEvent;
+import com.restaurantos.modules.inventory.repository.IngredientRepository;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.repository.OrderTally;
+import com.restaurantos.modules.table.entity.TableStatus;
+import com.restaurantos.modules.table.event.TableStatusChangedEvent;
+import com.restaurantos.modules.table.repository.TableRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory, per-restaurant dashboard counters kept current from committed
+ * order, table and inventory events.
+ *
+ * <p>A restaurant's aggregate is rebuilt from the database with a handful of
+ * queries the first time it is read, when the day rolls over, and once it is
+ * older than {@code app.dashboard.rebuild-interval-minutes}. The periodic
+ * rebuild also folds in changes made by other nodes or by paths that publish
+ * no event, such as order deletion. Events that arrive while a rebuild runs
+ * are replayed on top of it, and the aggregate keeps the last state it saw of
+ * each of the day's orders, so an order the rebuild already counted is not
+ * counted again when its event comes in late.
+ */
+@Component
+@Slf4j
+public class DashboardAggregateStore {
+
+    private static final int TOP_DISHES_LIMIT = 5;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final IngredientRepository ingredientRepository;
+    private final TableRepository tableRepository;
+    private final Duration rebuildInterval;
+
+    private final Map<UUID, RestaurantAggregate> aggregates = new ConcurrentHashMap<>();
+
+    public DashboardAggregateStore(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
+            IngredientRepository ingredientRepository, TableRepository tableRepository,
+            @Value("${app.dashboard.rebuild-interval-minutes:15}") long rebuildIntervalMinutes) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.tableRepository = tableRepository;
+        this.rebuildInterval = Duration.ofMinutes(rebuildIntervalMinutes);
+    }
+
+    /**
+     * Returns the current summary, rebuilding the aggregate first if it is
+     * missing or stale.
+     */
+    @Transactional(readOnly = true)
+    public DashboardSummaryResponse getSummary(UUID restaurantId) {
+        RestaurantAggregate aggregate = aggregates.get(restaurantId);
+        if (aggregate == null || aggregate.isStale(LocalDate.now(), rebuildInterval)) {
+            aggregate = rebuild(restaurantId);
+        }
+        return aggregate.summary();
+    }
+
+    /**
+     * Reloads a restaurant's aggregate from the database.
+     */
+    @Transactional(readOnly = true)
+    public RestaurantAggregate rebuild(UUID restaurantId) {
+        // Registered before loading, so that events committed meanwhile are recorded and replayed
+        RestaurantAggregate aggregate = aggregates.computeIfAbsent(restaurantId, id -> new RestaurantAggregate());
+        long sequenceBefore = aggregate.beginReload();
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDateTime startOfToday = LocalDateTime.of(today, LocalTime.MIN);
+            LocalDateTime endOfToday = LocalDateTime.of(today, LocalTime.MAX);
+
+            List<OrderTally> orders = orderRepository.findTallies(restaurantId, startOfToday.minusDays(1),
+                    endOfToday);
+            List<TopDishResponse> dishes = orderItemRepository.findTopSellingItems(restaurantId, startOfToday,
+                    endOfToday, Pageable.unpaged());
+            List<UUID> activeTables = tableRepository.findIdsByRestaurantIdAndStatus(restaurantId,
+                    TableStatus.OCCUPIED);
+            List<UUID> lowStockIngredients = ingredientRepository.findLowStockIdsByRestaurantId(restaurantId);
+            aggregate.reload(today, orders, dishes, activeTables, lowStockIngredients, sequenceBefore);
+        } finally {
+            aggregate.endReload();
+        }
+        log.debug("Rebuilt dashboard aggregate for restaurant {}", restaurantId);
+        return aggregate;
+    }
+
+    /**
+     * Drops a restaurant's aggregate so that the next read rebuilds it.
+     */
+    public void invalidate(UUID restaurantId) {
+        aggregates.remove(restaurantId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        RestaurantAggregate aggregate = aggregates.get(event.getRestaurantId());
+        if (aggregate != null) {
+            aggregate.orderChanged(event.getOrder());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        RestaurantAggregate aggregate = aggregates.get(event.getRestaurantId());
+        if (aggregate != null) {
+            aggregate.orderChanged(event.getOrder());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTableStatusChanged(TableStatusChangedEvent event) {
+        RestaurantAggregate aggregate = aggregates.get(event.getRestaurantId());
+        if (aggregate != null) {
+            aggregate.tableStatusChanged(event.getTableId(), event.getStatus());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredientStockChanged(IngredientStockChangedEvent event) {
+        RestaurantAggregate aggregate = aggregates.get(event.getRestaurantId());
+        if (aggregate != null) {
+            aggregate.ingredientStockChanged(event.getIngredientId(), event.isLowStock());
+        }
+    }
+
+    /**
+     * Rolling counters for one restaurant and one business day. Orders count
+     * towards the day they were created on, matching the report queries.
+     */
+    public static final class RestaurantAggregate {
+
+        private LocalDate date;
+        private Instant builtAt;
+        private BigDecimal todayRevenue = BigDecimal.ZERO;
+        private BigDecimal yesterdayRevenue = BigDecimal.ZERO;
+        private long todayOrders;
+        // Last state seen of each order created today or yesterday, so that applying it again changes nothing
+        private final Map<UUID, OrderTally> orders = new HashMap<>();
+        private final Set<UUID> activeTables = new HashSet<>();
+        private final Set<UUID> lowStockIngredients = new HashSet<>();
+        private final Map<UUID, TopDishResponse> dishes = new HashMap<>();
+        private DashboardSummaryResponse summary;
+        // Changes applied while a reload is running, replayed on top of the reloaded state
+        private final List<Change> changes = new ArrayList<>();
+        private long sequence;
+        private int reloading;
+        // Not a monitor, so event listeners queued behind a reader never pin a virtual thread's carrier
+        private final ReentrantLock lock = new ReentrantLock();
+
+        RestaurantAggregate() {
+        }
+
+        boolean isStale(LocalDate today, Duration maxAge) {
+            lock.lock();
+            try {
+                return date == null || !date.equals(today) || builtAt.plus(maxAge).isBefore(Instant.now());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        DashboardSummaryResponse summary() {
+            lock.lock();
+            try {
+                if (summary == null) {
+                    summary = DashboardSummaryResponse.builder()
+                            .todayRevenue(todayRevenue)
+                            .todayOrders((int) todayOrders)
+                            .revenueGrowthRate(growthRate())
+                            .topDishes(topDishes())
+                            .lowStockAlertsCount(lowStockIngredients.size())
+                            .activeTablesCount(activeTables.size())
+                            .build();
+                }
+                return summary;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Starts recording changes for a reload, returning the sequence the
+         * reload has to replay from.
+         */
+        long beginReload() {
+            lock.lock();
+            try {
+                reloading++;
+                return sequence;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Replaces the counters with the ones loaded from the database for
+         * {@code date}, then replays the changes recorded after
+         * {@code sequenceBefore}, which the load may have missed.
+         */
+        void reload(LocalDate date, List<OrderTally> loadedOrders, List<TopDishResponse> loadedDishes,
+                Collection<UUID> loadedTables, Collection<UUID> loadedLowStock, long sequenceBefore) {
+            lock.lock();
+            try {
+                this.date = date;
+                builtAt = Instant.now();
+                todayRevenue = BigDecimal.ZERO;
+                yesterdayRevenue = BigDecimal.ZERO;
+                todayOrders = 0;
+                orders.clear();
+                // Dishes come from their own query, so loaded orders only add to the order counters
+                loadedOrders.forEach(order -> tallyOrder(order, List.of()));
+                dishes.clear();
+                loadedDishes.forEach(dish -> dishes.put(dish.getMenuItemId(), dish));
+                activeTables.clear();
+                activeTables.addAll(loadedTables);
+                lowStockIngredients.clear();
+                lowStockIngredients.addAll(loadedLowStock);
+                for (Change change : changes) {
+                    if (change.sequence() > sequenceBefore) {
+                        change.action().accept(this);
+                    }
+                }
+                summary = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void endReload() {
+            lock.lock();
+            try {
+                if (--reloading == 0) {
+                    changes.clear();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void orderChanged(OrderResponse order) {
+            OrderTally tally = new OrderTally(order.getId(), order.getCreatedAt(), order.getStatus(),
+                    order.getTotalAmount());
+            List<OrderResponse.OrderItemResponse> items = order.getItems() != null ? order.getItems() : List.of();
+            record(aggregate -> aggregate.tallyOrder(tally, items));
+        }
+
+        void tableStatusChanged(UUID tableId, TableStatus status) {
+            record(aggregate -> {
+                boolean changed = status == TableStatus.OCCUPIED ? aggregate.activeTables.add(tableId)
+                        : aggregate.activeTables.remove(tableId);
+                if (changed) {
+                    aggregate.summary = null;
+                }
+            });
+        }
+
+        void ingredientStockChanged(UUID ingredientId, boolean lowStock) {
+            record(aggregate -> {
+                boolean changed = lowStock ? aggregate.lowStockIngredients.add(ingredientId)
+                        : aggregate.lowStockIngredients.remove(ingredientId);
+                if (changed) {
+                    aggregate.summary = null;
+                }
+            });
+        }
+
+        private void record(Consumer<RestaurantAggregate> action) {
+            lock.lock();
+            try {
+                action.accept(this);
+                if (reloading > 0) {
+                    changes.add(new Change(++sequence, action));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Moves an order to its new state, adjusting the counters by the
+         * difference from the last state seen of it.
+         */
+        private void tallyOrder(OrderTally order, List<OrderResponse.OrderItemResponse> items) {
+            if (date == null || order.createdAt() == null) {
+                return;
+            }
+            LocalDate orderDate = order.createdAt().toLocalDate();
+            boolean today = orderDate.equals(date);
+            if (!today && !orderDate.equals(date.minusDays(1))) {
+                return;
+            }
+            OrderTally previous = orders.put(order.id(), order);
+            if (previous == null && today) {
+                todayOrders++;
+                summary = null;
+            }
+            boolean wasCompleted = previous != null && previous.status() == OrderStatus.COMPLETED;
+            boolean isCompleted = order.status() == OrderStatus.COMPLETED;
+            if (wasCompleted == isCompleted) {
+                return;
+            }
+            int sign = isCompleted ? 1 : -1;
+            BigDecimal amount = signed(isCompleted ? order.totalAmount() : previous.totalAmount(), sign);
+            if (today) {
+                todayRevenue = todayRevenue.add(amount);
+                items.forEach(item -> tallyDish(item, sign));
+            } else {
+                yesterdayRevenue = yesterdayRevenue.add(amount);
+            }
+            summary = null;
+        }
+
+        private void tallyDish(OrderResponse.OrderItemResponse item, int sign) {
+            if (item.getMenuItemId() == null) {
+                return;
+            }
+            TopDishResponse dish = dishes.computeIfAbsent(item.getMenuItemId(), id -> TopDishResponse.builder()
+                    .menuItemId(id)
+                    .menuItemName(item.getItemName())
+                    .quantity(0L)
+                    .revenue(BigDecimal.ZERO)
+                    .build());
+            dish.setQuantity(dish.getQuantity() + (long) sign * item.getQuantity());
+            dish.setRevenue(dish.getRevenue().add(signed(item.getSubtotal(), sign)));
+            if (dish.getQuantity() <= 0) {
+                dishes.remove(item.getMenuItemId());
+            }
+        }
+
+        private List<TopDishResponse> topDishes() {
+            return dishes.values().stream()
+                    .sorted(Comparator.comparing(TopDishResponse::getQuantity).reversed())
+                    .limit(TOP_DISHES_LIMIT)
+                    .map(dish -> TopDishResponse.builder()
+                            .menuItemId(dish.getMenuItemId())
+                            .menuItemName(dish.getMenuItemName())
+                            .quantity(dish.getQuantity())
+                            .revenue(dish.getRevenue())
+                            .build())
+                    .toList();
+        }
+
+        private Double growthRate() {
+            if (yesterdayRevenue.compareTo(BigDecimal.ZERO) <= 0) {
+                return 0.0;
+            }
+            return todayRevenue.subtract(yesterdayRevenue)
+                    .divide(yesterdayRevenue, 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(100))
+                    .doubleValue();
+        }
+
+        private static BigDecimal signed(BigDecimal amount, int sign) {
+            if (amount == null) {
+                return BigDecimal.ZERO;
+            }
+            return sign < 0 ? amount.negate() : amount;
+        }
+
+        private record Change(long sequence, Consumer<RestaurantAggregate> action) {
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package com.restaurantos.modules.auth.controller;
 
-import java.util.UUID;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.restaurantos.modules.auth.dto.request.LoginRequest;
@@ -15,6 +13,7 @@ import com.restaurantos.modules.auth.dto.request.RefreshTokenRequest;
 import com.restaurantos.modules.auth.dto.request.RegisterRequest;
 import com.restaurantos.modules.auth.dto.response.AuthResponse;
 import com.restaurantos.modules.auth.dto.response.UserResponse;
+import com.restaurantos.modules.auth.security.AuthenticatedUser;
 import com.restaurantos.modules.auth.service.AuthService;
 import com.restaurantos.shared.dto.ApiResponse;
 
@@ -53,9 +52,9 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@RequestParam UUID userId) {
-        log.info("User logout: {}", userId);
-        authService.logout(userId);
+    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("User logout: {}", user.id());
+        authService.logout(user.id());
         return ResponseEntity.ok(ApiResponse.success("Logged out successfully", null));
     }
 }
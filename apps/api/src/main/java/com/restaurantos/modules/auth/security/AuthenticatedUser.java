@@ -0,0 +1,27 @@
+package com.restaurantos.modules.auth.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.restaurantos.modules.auth.entity.User;
+import com.restaurantos.modules.auth.entity.UserRole;
+
+/**
+ * Principal of an authenticated request, built from the access token claims
+ * so that no user row has to be loaded.
+ */
+public record AuthenticatedUser(UUID id, String username, UserRole role, UUID restaurantId) {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole(),
+                user.getRestaurant() != null ? user.getRestaurant().getId() : null);
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.restaurantos.modules.auth.security;
+
+import java.time.Instant;
+
+/**
+ * An access token whose signature has been checked. {@code user} is null for
+ * tokens issued before the identity claims were added.
+ */
+public record VerifiedToken(String subject, AuthenticatedUser user, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,8 +1,14 @@
 package com.restaurantos.modules.auth.service;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -11,7 +17,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.restaurantos.modules.auth.entity.User;
+import com.restaurantos.modules.auth.entity.UserRole;
+import com.restaurantos.modules.auth.security.AuthenticatedUser;
+import com.restaurantos.modules.auth.security.VerifiedToken;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -19,14 +32,55 @@ import io.jsonwebtoken.security.Keys;
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    @Value("${jwt.expiration}")
-    private Long jwtExpiration;
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String RESTAURANT_ID_CLAIM = "rid";
+    /**
+     * Issue time in milliseconds. The registered {@code iat} claim only has
+     * second precision, too coarse to tell a token issued just after a logout
+     * from the ones the logout revoked.
+     */
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+
+    /**
+     * Recently verified tokens, least recently used first. Guarded by
+     * {@link #cacheLock}.
+     */
+    private final Map<String, VerifiedToken> verifiedTokens;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
+    /**
+     * Per user, the millisecond up to which issued tokens are no longer
+     * accepted.
+     */
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    /**
+     * Decodes the key once; the parser built from it is immutable and shared
+     * by all threads.
+     */
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        };
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifyToken(token).subject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -38,6 +92,24 @@ public class JwtService {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    /**
+     * Issues an access token that also carries the user's id, role and
+     * restaurant, so that requests can be authenticated from the token alone.
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        if (user.getId() != null) {
+            claims.put(USER_ID_CLAIM, user.getId().toString());
+        }
+        if (user.getRole() != null) {
+            claims.put(ROLE_CLAIM, user.getRole().name());
+        }
+        if (user.getRestaurant() != null && user.getRestaurant().getId() != null) {
+            claims.put(RESTAURANT_ID_CLAIM, user.getRestaurant().getId().toString());
+        }
+        return generateToken(claims, user);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
@@ -46,39 +118,96 @@ public class JwtService {
             Map<String, Object> extraClaims,
             UserDetails userDetails,
             long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims(extraClaims)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
                 .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(signingKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        VerifiedToken verified = verifyToken(token);
+        return verified.subject().equals(userDetails.getUsername()) && !verified.isExpired(Instant.now());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies an access token, parsing it at most once while it stays in the
+     * cache of recently verified tokens.
+     *
+     * @throws JwtException if the token is malformed, expired, wrongly signed
+     *                      or revoked
+     */
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verified = cachedToken(token);
+        if (verified == null) {
+            verified = toVerifiedToken(extractAllClaims(token));
+            cacheLock.lock();
+            try {
+                verifiedTokens.put(token, verified);
+            } finally {
+                cacheLock.unlock();
+            }
+        } else if (verified.isExpired(Instant.now())) {
+            throw new JwtException("JWT expired at " + verified.expiresAt());
+        }
+        if (isRevoked(verified)) {
+            throw new JwtException("JWT has been revoked");
+        }
+        return verified;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Stops accepting every token issued to the user so far. Held in memory
+     * only, so it applies to this instance and lasts until the revoked tokens
+     * would have expired anyway.
+     */
+    public void revokeTokens(UUID userId) {
+        Instant now = Instant.now();
+        revokedBefore.put(userId, now.truncatedTo(ChronoUnit.MILLIS));
+        Instant horizon = now.minusMillis(jwtExpiration);
+        revokedBefore.values().removeIf(revokedAt -> revokedAt.isBefore(horizon));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private boolean isRevoked(VerifiedToken token) {
+        if (token.user() == null || token.user().id() == null) {
+            return false;
+        }
+        Instant revokedAt = revokedBefore.get(token.user().id());
+        // Tokens without the millisecond claim only carry whole seconds, so
+        // one from the revocation second itself is treated as revoked too
+        return revokedAt != null && !token.issuedAt().isAfter(revokedAt);
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private VerifiedToken cachedToken(String token) {
+        cacheLock.lock();
+        try {
+            return verifiedTokens.get(token);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        String restaurantId = claims.get(RESTAURANT_ID_CLAIM, String.class);
+        AuthenticatedUser user = null;
+        if (userId != null && role != null) {
+            user = new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), UserRole.valueOf(role),
+                    restaurantId != null ? UUID.fromString(restaurantId) : null);
+        }
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        Instant issuedAt = issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis)
+                : claims.getIssuedAt().toInstant();
+        return new VerifiedToken(claims.getSubject(), user, issuedAt, claims.getExpiration().toInstant());
+    }
+
+    private Claims extractAllClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public long getExpirationTime() {
@@ -121,6 +121,7 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         refreshTokenRepository.deleteByUser(user);
+        jwtService.revokeTokens(user.getId());
     }
 
     private RefreshToken createRefreshToken(User user) {
@@ -8,6 +8,7 @@ import com.restaurantos.shared.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,9 @@ import lombok.ToString;
  * Entity representing an ingredient in the inventory.
  */
 @Entity
-@Table(name = "ingredients")
+@Table(name = "ingredients", indexes = {
+        @Index(name = "idx_ingredient_restaurant", columnList = "restaurant_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,7 +54,7 @@ public class Ingredient extends BaseEntity {
 
     private String supplierPhone;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 }
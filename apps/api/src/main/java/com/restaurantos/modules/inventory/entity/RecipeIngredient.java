@@ -2,6 +2,8 @@ package com.restaurantos.modules.inventory.entity;
 
 import java.math.BigDecimal;
 
+import org.springframework.data.domain.Persistable;
+
 import com.restaurantos.modules.menu.entity.MenuItem;
 
 import jakarta.persistence.Column;
@@ -11,7 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +27,9 @@ import lombok.Setter;
 /**
  * Entity representing the relationship between a menu item and its required
  * ingredients.
+ * Implements {@link Persistable} because the key is assigned by the caller:
+ * without it, saving a new row would be treated as a merge and cost an extra
+ * SELECT per row before the (batchable) insert.
  */
 @Entity
 @Table(name = "recipe_ingredients")
@@ -29,7 +38,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class RecipeIngredient {
+public class RecipeIngredient implements Persistable<RecipeIngredientId> {
 
     @EmbeddedId
     private RecipeIngredientId id;
@@ -46,4 +55,21 @@ public class RecipeIngredient {
 
     @Column(nullable = false)
     private BigDecimal quantity;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted = false;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -0,0 +1,18 @@
+package com.restaurantos.modules.inventory.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when an ingredient's stock level or threshold changes.
+ * {@code lowStock} is false for deleted ingredients.
+ */
+@Getter
+@AllArgsConstructor
+public class IngredientStockChangedEvent {
+    private final UUID restaurantId;
+    private final UUID ingredientId;
+    private final boolean lowStock;
+}
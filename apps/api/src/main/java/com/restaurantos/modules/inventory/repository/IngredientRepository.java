@@ -1,14 +1,19 @@
 package com.restaurantos.modules.inventory.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.inventory.entity.Ingredient;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface IngredientRepository extends JpaRepository<Ingredient, UUID> {
 
@@ -16,4 +21,15 @@ public interface IngredientRepository extends JpaRepository<Ingredient, UUID> {
 
     @Query("SELECT i FROM Ingredient i WHERE i.restaurant.id = :restaurantId AND i.currentStock < i.minStock")
     List<Ingredient> findByRestaurantIdAndCurrentStockLessThanMinStock(UUID restaurantId);
+
+    @Query("SELECT i.id FROM Ingredient i WHERE i.restaurant.id = :restaurantId AND i.currentStock < i.minStock")
+    List<UUID> findLowStockIdsByRestaurantId(UUID restaurantId);
+
+    /**
+     * Loads and write-locks a set of ingredients in one statement. Rows are
+     * locked in primary key order so concurrent deductions cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Ingredient i WHERE i.id IN :ids ORDER BY i.id")
+    List<Ingredient> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,10 @@
+package com.restaurantos.modules.inventory.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of the total amount of one ingredient consumed by an order.
+ */
+public record IngredientUsage(UUID ingredientId, BigDecimal quantity) {
+}
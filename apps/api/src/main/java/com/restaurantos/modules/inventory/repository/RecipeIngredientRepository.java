@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.inventory.entity.RecipeIngredient;
@@ -14,5 +17,23 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
 
     List<RecipeIngredient> findByMenuItemId(UUID menuItemId);
 
-    void deleteByMenuItemId(UUID menuItemId);
+    /**
+     * Removes a menu item's whole recipe with a single DELETE instead of
+     * loading and removing each row.
+     */
+    @Modifying
+    @Query("DELETE FROM RecipeIngredient ri WHERE ri.menuItem.id = :menuItemId")
+    void deleteByMenuItemId(@Param("menuItemId") UUID menuItemId);
+
+    /**
+     * Computes how much of each ingredient an order consumes by joining its
+     * items to their recipes, multiplying by the ordered quantity and summing
+     * per ingredient, all in one query.
+     */
+    @Query("SELECT new com.restaurantos.modules.inventory.repository.IngredientUsage("
+            + "ri.ingredient.id, SUM(ri.quantity * oi.quantity)) "
+            + "FROM OrderItem oi JOIN RecipeIngredient ri ON ri.menuItem.id = oi.menuItem.id "
+            + "WHERE oi.order.id = :orderId "
+            + "GROUP BY ri.ingredient.id")
+    List<IngredientUsage> sumIngredientUsageByOrderId(@Param("orderId") UUID orderId);
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import com.restaurantos.modules.inventory.dto.request.StockAdjustmentRequest;
 import com.restaurantos.modules.inventory.dto.response.IngredientResponse;
 import com.restaurantos.modules.inventory.entity.Ingredient;
 import com.restaurantos.modules.inventory.entity.InventoryHistory;
+import com.restaurantos.modules.inventory.event.IngredientStockChangedEvent;
 import com.restaurantos.modules.inventory.repository.IngredientRepository;
 import com.restaurantos.modules.inventory.repository.InventoryHistoryRepository;
 import com.restaurantos.modules.inventory.service.IngredientService;
@@ -30,6 +32,7 @@ public class IngredientServiceImpl implements IngredientService {
     private final IngredientRepository ingredientRepository;
     private final InventoryHistoryRepository historyRepository;
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -72,7 +75,9 @@ public class IngredientServiceImpl implements IngredientService {
                 .restaurant(restaurant)
                 .build();
 
-        return mapToResponse(ingredientRepository.save(ingredient));
+        Ingredient saved = ingredientRepository.save(ingredient);
+        publishStockChanged(saved);
+        return mapToResponse(saved);
     }
 
     @Override
@@ -90,7 +95,9 @@ public class IngredientServiceImpl implements IngredientService {
         // Standard update doesn't move currentStock to force use of adjustStock for
         // tracking
 
-        return mapToResponse(ingredientRepository.save(ingredient));
+        Ingredient saved = ingredientRepository.save(ingredient);
+        publishStockChanged(saved);
+        return mapToResponse(saved);
     }
 
     @Override
@@ -109,16 +116,25 @@ public class IngredientServiceImpl implements IngredientService {
                 .build();
 
         historyRepository.save(history);
-        return mapToResponse(ingredientRepository.save(ingredient));
+        Ingredient saved = ingredientRepository.save(ingredient);
+        publishStockChanged(saved);
+        return mapToResponse(saved);
     }
 
     @Override
     @Transactional
     public void delete(UUID id) {
-        if (!ingredientRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Ingredient not found with id: " + id);
-        }
-        ingredientRepository.deleteById(id);
+        Ingredient ingredient = ingredientRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ingredient not found with id: " + id));
+        ingredientRepository.delete(ingredient);
+        eventPublisher.publishEvent(
+                new IngredientStockChangedEvent(ingredient.getRestaurant().getId(), ingredient.getId(), false));
+    }
+
+    private void publishStockChanged(Ingredient ingredient) {
+        boolean lowStock = ingredient.getCurrentStock().compareTo(ingredient.getMinStock()) < 0;
+        eventPublisher.publishEvent(
+                new IngredientStockChangedEvent(ingredient.getRestaurant().getId(), ingredient.getId(), lowStock));
     }
 
     private IngredientResponse mapToResponse(Ingredient ingredient) {
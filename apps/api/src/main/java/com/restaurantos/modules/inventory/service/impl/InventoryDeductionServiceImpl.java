@@ -1,15 +1,27 @@
 package com.restaurantos.modules.inventory.service.impl;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-import org.springframework.context.event.EventListener;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.restaurantos.modules.inventory.entity.AdjustmentType;
+import com.restaurantos.modules.inventory.entity.Ingredient;
+import com.restaurantos.modules.inventory.entity.InventoryHistory;
+import com.restaurantos.modules.inventory.event.IngredientStockChangedEvent;
+import com.restaurantos.modules.inventory.repository.IngredientRepository;
+import com.restaurantos.modules.inventory.repository.IngredientUsage;
+import com.restaurantos.modules.inventory.repository.InventoryHistoryRepository;
 import com.restaurantos.modules.inventory.repository.RecipeIngredientRepository;
-import com.restaurantos.modules.inventory.service.IngredientService;
 import com.restaurantos.modules.inventory.service.InventoryDeductionService;
 import com.restaurantos.modules.order.event.OrderCompletedEvent;
+import com.restaurantos.shared.outbox.OutboxEventHandler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,17 +29,25 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class InventoryDeductionServiceImpl implements InventoryDeductionService {
+public class InventoryDeductionServiceImpl implements InventoryDeductionService, OutboxEventHandler<OrderCompletedEvent> {
 
     private final RecipeIngredientRepository recipeIngredientRepository;
-    private final IngredientService ingredientService;
-    // Note: OrderItemRepository will be needed when MODULE 6 (Order) is
-    // implemented.
-    // For now, this is a structural implementation that will be completed with
-    // Order logic.
-
-    @EventListener
-    public void handleOrderCompleted(OrderCompletedEvent event) {
+    private final IngredientRepository ingredientRepository;
+    private final InventoryHistoryRepository historyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Class<OrderCompletedEvent> eventType() {
+        return OrderCompletedEvent.class;
+    }
+
+    /**
+     * Delivered from the outbox once the order's completion has committed, on a
+     * dispatcher thread, so stock bookkeeping never delays or rolls back the
+     * checkout. A failed deduction is rolled back as a whole and retried.
+     */
+    @Override
+    public void handle(OrderCompletedEvent event) {
         log.info("Received OrderCompletedEvent for order: {}. Triggering inventory deduction.", event.getOrderId());
         deductInventoryForOrder(event.getOrderId());
     }
@@ -35,16 +55,34 @@ public class InventoryDeductionServiceImpl implements InventoryDeductionService
     @Override
     @Transactional
     public void deductInventoryForOrder(UUID orderId) {
-        // TODO: Fetch OrderItems for orderId once MODULE 6 is implemented
-        // For each OrderItem:
-        // 1. Get MenuItem ID and quantity sold
-        // 2. Fetch RecipeIngredients for that MenuItem
-        // 3. For each RecipeIngredient:
-        // qty_to_deduct = recipe_qty * order_item_qty
-        // ingredientService.adjustStock(ingredientId, -qty_to_deduct, AUTO_DEDUCTION,
-        // "Order: " + orderId)
-
-        log.warn("Inventory deduction for order {} is partially implemented. Awaiting Order module integration.",
-                orderId);
+        Map<UUID, BigDecimal> usage = recipeIngredientRepository.sumIngredientUsageByOrderId(orderId).stream()
+                .collect(Collectors.toMap(IngredientUsage::ingredientId, IngredientUsage::quantity));
+        if (usage.isEmpty()) {
+            log.debug("Order {} uses no tracked ingredients", orderId);
+            return;
+        }
+
+        List<Ingredient> ingredients = ingredientRepository.findAllByIdForUpdate(usage.keySet());
+        List<InventoryHistory> history = new ArrayList<>(ingredients.size());
+        for (Ingredient ingredient : ingredients) {
+            BigDecimal quantity = usage.get(ingredient.getId());
+            ingredient.setCurrentStock(ingredient.getCurrentStock().subtract(quantity));
+            history.add(InventoryHistory.builder()
+                    .ingredient(ingredient)
+                    .usageQuantity(quantity.negate())
+                    .adjustmentType(AdjustmentType.AUTO_DEDUCTION)
+                    .reason("Order: " + orderId)
+                    .build());
+        }
+
+        ingredientRepository.saveAll(ingredients);
+        historyRepository.saveAll(history);
+
+        for (Ingredient ingredient : ingredients) {
+            boolean lowStock = ingredient.getCurrentStock().compareTo(ingredient.getMinStock()) < 0;
+            eventPublisher.publishEvent(
+                    new IngredientStockChangedEvent(ingredient.getRestaurant().getId(), ingredient.getId(), lowStock));
+        }
+        log.info("Deducted {} ingredients for order {}", ingredients.size(), orderId);
     }
 }
@@ -1,7 +1,9 @@
 package com.restaurantos.modules.inventory.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -60,11 +62,17 @@ public class RecipeServiceImpl implements RecipeService {
         // Remove existing recipe if any
         recipeRepository.deleteByMenuItemId(menuItemId);
 
+        Map<UUID, Ingredient> ingredients = ingredientRepository.findAllById(request.getIngredients().stream()
+                .map(RecipeRequest.RecipeIngredientRequest::getIngredientId)
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Ingredient::getId, Function.identity()));
+
         List<RecipeIngredient> newIngredients = request.getIngredients().stream()
                 .map(req -> {
-                    Ingredient ingredient = ingredientRepository.findById(req.getIngredientId())
-                            .orElseThrow(() -> new ResourceNotFoundException(
-                                    "Ingredient not found with id: " + req.getIngredientId()));
+                    Ingredient ingredient = ingredients.get(req.getIngredientId());
+                    if (ingredient == null) {
+                        throw new ResourceNotFoundException("Ingredient not found with id: " + req.getIngredientId());
+                    }
 
                     return RecipeIngredient.builder()
                             .id(new RecipeIngredientId(menuItemId, ingredient.getId()))
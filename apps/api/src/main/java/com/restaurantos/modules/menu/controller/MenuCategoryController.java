@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,10 +15,12 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.restaurantos.modules.menu.dto.request.CategoryRequest;
 import com.restaurantos.modules.menu.dto.response.CategoryResponse;
 import com.restaurantos.modules.menu.service.MenuCategoryService;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
 import com.restaurantos.shared.dto.ApiResponse;
 
 import jakarta.validation.Valid;
@@ -33,14 +36,32 @@ public class MenuCategoryController {
 
     private final MenuCategoryService categoryService;
 
+    /**
+     * Lists all categories. Answers {@code 304 Not Modified} without loading
+     * them when the client's {@code If-None-Match} is current.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAll(@PathVariable UUID restaurantId) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAll(@PathVariable UUID restaurantId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getListingETag(restaurantId))) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(categoryService.getAllByRestaurant(restaurantId)));
     }
 
+    /**
+     * Serves the active categories from the cached menu snapshot as
+     * pre-serialized JSON, tagged with the snapshot version.
+     */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getActive(@PathVariable UUID restaurantId) {
-        return ResponseEntity.ok(ApiResponse.success(categoryService.getActiveByRestaurant(restaurantId)));
+    public ResponseEntity<byte[]> getActive(@PathVariable UUID restaurantId, WebRequest webRequest) {
+        MenuSnapshot menu = categoryService.getMenu(restaurantId);
+        if (webRequest.checkNotModified(menu.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(menu.getCategoriesJson());
     }
 
     @GetMapping("/{id}")
@@ -17,11 +17,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.restaurantos.modules.menu.dto.request.MenuItemRequest;
 import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
 import com.restaurantos.modules.menu.service.MenuItemService;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
 import com.restaurantos.shared.dto.ApiResponse;
 
 import jakarta.validation.Valid;
@@ -37,16 +39,35 @@ public class MenuItemController {
 
     private final MenuItemService menuItemService;
 
+    /**
+     * Serves the active items from the cached menu snapshot as pre-serialized
+     * JSON, tagged with the snapshot version.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MenuItemResponse>>> getAll(
+    public ResponseEntity<byte[]> getAll(
             @PathVariable UUID restaurantId,
-            @RequestParam(required = false) UUID categoryId) {
-        return ResponseEntity.ok(ApiResponse.success(menuItemService.getAll(restaurantId, categoryId)));
+            @RequestParam(required = false) UUID categoryId,
+            WebRequest webRequest) {
+        MenuSnapshot menu = menuItemService.getMenu(restaurantId);
+        if (webRequest.checkNotModified(menu.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(menu.getItemsJson(categoryId));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<MenuItemResponse>> getById(@PathVariable UUID id) {
-        return ResponseEntity.ok(ApiResponse.success(menuItemService.getById(id)));
+    public ResponseEntity<byte[]> getById(@PathVariable UUID restaurantId, @PathVariable UUID id,
+            WebRequest webRequest) {
+        MenuSnapshot menu = menuItemService.getMenu(restaurantId);
+        byte[] body = menu.getItemJson(id);
+        if (webRequest.checkNotModified(menu.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("/search")
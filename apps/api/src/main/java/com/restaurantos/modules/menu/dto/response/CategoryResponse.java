@@ -3,6 +3,8 @@ package com.restaurantos.modules.menu.dto.response;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.restaurantos.modules.menu.entity.MenuCategory;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,4 +25,16 @@ public class CategoryResponse {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static CategoryResponse from(MenuCategory category) {
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .displayOrder(category.getDisplayOrder())
+                .isActive(category.getIsActive())
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .build();
+    }
 }
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.restaurantos.modules.menu.entity.MenuItem;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -37,4 +39,29 @@ public class MenuItemResponse {
     private String categoryName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static MenuItemResponse from(MenuItem item) {
+        return MenuItemResponse.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .price(item.getPrice())
+                .imageUrl(item.getImageUrl())
+                .thumbnailUrl(item.getThumbnailUrl())
+                .prepTime(item.getPrepTime())
+                .spicyLevel(item.getSpicyLevel())
+                .isVegetarian(item.getIsVegetarian())
+                .allergens(item.getAllergens())
+                .isAvailable(item.getIsAvailable())
+                .displayOrder(item.getDisplayOrder())
+                .isFeatured(item.getIsFeatured())
+                .orderCount(item.getOrderCount())
+                .ratingAvg(item.getRatingAvg())
+                .ratingCount(item.getRatingCount())
+                .categoryId(item.getCategory().getId())
+                .categoryName(item.getCategory().getName())
+                .createdAt(item.getCreatedAt())
+                .updatedAt(item.getUpdatedAt())
+                .build();
+    }
 }
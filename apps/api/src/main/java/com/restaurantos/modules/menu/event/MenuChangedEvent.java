@@ -0,0 +1,15 @@
+package com.restaurantos.modules.menu.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a restaurant's menu items or categories change.
+ */
+@Getter
+@AllArgsConstructor
+public class MenuChangedEvent {
+    private final UUID restaurantId;
+}
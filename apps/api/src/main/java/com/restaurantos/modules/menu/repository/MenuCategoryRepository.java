@@ -4,9 +4,12 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.shared.dto.ListingVersion;
 
 /**
  * Repository interface for {@link MenuCategory} entity.
@@ -29,4 +32,16 @@ public interface MenuCategoryRepository extends JpaRepository<MenuCategory, UUID
      * @return list of menu categories
      */
     List<MenuCategory> findByRestaurantIdOrderByDisplayOrderAsc(UUID restaurantId);
+
+    /**
+     * Computes the fingerprint of a restaurant's category listing without
+     * loading the entities.
+     *
+     * @param restaurantId the restaurant ID
+     * @return row count, latest modification time and version sum of the
+     *         categories
+     */
+    @Query("SELECT new com.restaurantos.shared.dto.ListingVersion(COUNT(c), MAX(c.updatedAt), SUM(c.version)) "
+            + "FROM MenuCategory c WHERE c.restaurant.id = :restaurantId")
+    ListingVersion findListingVersion(@Param("restaurantId") UUID restaurantId);
 }
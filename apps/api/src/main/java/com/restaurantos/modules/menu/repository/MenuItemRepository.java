@@ -1,8 +1,10 @@
 package com.restaurantos.modules.menu.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -40,6 +42,27 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
      */
     List<MenuItem> findByRestaurantIdAndIsAvailableTrue(UUID restaurantId);
 
+    /**
+     * Finds the menu items of a restaurant that have not been deleted, with
+     * their categories, ordered by display order.
+     *
+     * @param restaurantId the restaurant ID
+     * @return list of active menu items
+     */
+    @EntityGraph(attributePaths = "category")
+    List<MenuItem> findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(UUID restaurantId);
+
+    /**
+     * Loads a set of menu items in a single query, restricted to one restaurant.
+     * Items that do not exist or belong to another restaurant are simply absent
+     * from the result.
+     *
+     * @param restaurantId the restaurant ID
+     * @param ids          the menu item IDs
+     * @return list of matching menu items
+     */
+    List<MenuItem> findByRestaurantIdAndIdIn(UUID restaurantId, Collection<UUID> ids);
+
     /**
      * Searches for menu items by name or description using partial matching.
      * Note: Full-text search index is defined at database level.
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import com.restaurantos.modules.menu.dto.request.CategoryRequest;
 import com.restaurantos.modules.menu.dto.response.CategoryResponse;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
 
 /**
  * Service interface for menu category operations.
@@ -19,6 +20,15 @@ public interface MenuCategoryService {
      */
     List<CategoryResponse> getAllByRestaurant(UUID restaurantId);
 
+    /**
+     * Computes an entity tag for the restaurant's category listing without
+     * loading the categories.
+     *
+     * @param restaurantId the restaurant ID
+     * @return strong entity tag that changes whenever the listing does
+     */
+    String getListingETag(UUID restaurantId);
+
     /**
      * Gets all active categories for a restaurant.
      *
@@ -27,6 +37,15 @@ public interface MenuCategoryService {
      */
     List<CategoryResponse> getActiveByRestaurant(UUID restaurantId);
 
+    /**
+     * Gets the cached menu of a restaurant, including its pre-serialized
+     * responses.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the current menu snapshot
+     */
+    MenuSnapshot getMenu(UUID restaurantId);
+
     /**
      * Gets a category by ID.
      *
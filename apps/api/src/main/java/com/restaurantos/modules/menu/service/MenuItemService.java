@@ -7,6 +7,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.restaurantos.modules.menu.dto.request.MenuItemRequest;
 import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
 
 /**
  * Service interface for menu item operations.
@@ -14,7 +15,16 @@ import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
 public interface MenuItemService {
 
     /**
-     * Gets all menu items for a restaurant with optional filters.
+     * Gets the cached menu of a restaurant, including its pre-serialized
+     * responses.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the current menu snapshot
+     */
+    MenuSnapshot getMenu(UUID restaurantId);
+
+    /**
+     * Gets all active menu items for a restaurant with optional filters.
      *
      * @param restaurantId the restaurant ID
      * @param categoryId   optional category filter
@@ -23,12 +33,13 @@ public interface MenuItemService {
     List<MenuItemResponse> getAll(UUID restaurantId, UUID categoryId);
 
     /**
-     * Gets a menu item by ID.
+     * Gets an active menu item of a restaurant by ID.
      *
-     * @param id the item ID
+     * @param restaurantId the restaurant ID
+     * @param id           the item ID
      * @return the item details
      */
-    MenuItemResponse getById(UUID id);
+    MenuItemResponse getById(UUID restaurantId, UUID id);
 
     /**
      * Creates a new menu item.
@@ -4,14 +4,18 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.restaurantos.modules.menu.dto.request.CategoryRequest;
 import com.restaurantos.modules.menu.dto.response.CategoryResponse;
 import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.modules.menu.event.MenuChangedEvent;
 import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
 import com.restaurantos.modules.menu.service.MenuCategoryService;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
+import com.restaurantos.modules.menu.store.MenuSnapshotStore;
 import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.shared.exception.ResourceNotFoundException;
@@ -27,23 +31,32 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
 
     private final MenuCategoryRepository categoryRepository;
     private final RestaurantRepository restaurantRepository;
+    private final MenuSnapshotStore menuSnapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<CategoryResponse> getAllByRestaurant(UUID restaurantId) {
         return categoryRepository.findByRestaurantIdOrderByDisplayOrderAsc(restaurantId)
                 .stream()
-                .map(this::mapToResponse)
+                .map(CategoryResponse::from)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
+    public String getListingETag(UUID restaurantId) {
+        return categoryRepository.findListingVersion(restaurantId).toETag();
+    }
+
+    @Override
     public List<CategoryResponse> getActiveByRestaurant(UUID restaurantId) {
-        return categoryRepository.findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return menuSnapshotStore.get(restaurantId).getCategories();
+    }
+
+    @Override
+    public MenuSnapshot getMenu(UUID restaurantId) {
+        return menuSnapshotStore.get(restaurantId);
     }
 
     @Override
@@ -51,7 +64,7 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
     public CategoryResponse getById(UUID id) {
         MenuCategory category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Menu Category not found with id: " + id));
-        return mapToResponse(category);
+        return CategoryResponse.from(category);
     }
 
     @Override
@@ -68,7 +81,9 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
                 .restaurant(restaurant)
                 .build();
 
-        return mapToResponse(categoryRepository.save(category));
+        MenuCategory saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new MenuChangedEvent(restaurant.getId()));
+        return CategoryResponse.from(saved);
     }
 
     @Override
@@ -86,27 +101,17 @@ public class MenuCategoryServiceImpl implements MenuCategoryService {
             category.setIsActive(request.getIsActive());
         }
 
-        return mapToResponse(categoryRepository.save(category));
+        MenuCategory saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new MenuChangedEvent(category.getRestaurant().getId()));
+        return CategoryResponse.from(saved);
     }
 
     @Override
     @Transactional
     public void delete(UUID id) {
-        if (!categoryRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Menu Category not found with id: " + id);
-        }
-        categoryRepository.deleteById(id);
-    }
-
-    private CategoryResponse mapToResponse(MenuCategory category) {
-        return CategoryResponse.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .description(category.getDescription())
-                .displayOrder(category.getDisplayOrder())
-                .isActive(category.getIsActive())
-                .createdAt(category.getCreatedAt())
-                .updatedAt(category.getUpdatedAt())
-                .build();
+        MenuCategory category = categoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Menu Category not found with id: " + id));
+        categoryRepository.delete(category);
+        eventPublisher.publishEvent(new MenuChangedEvent(category.getRestaurant().getId()));
     }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,9 +13,12 @@ import com.restaurantos.modules.menu.dto.request.MenuItemRequest;
 import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
 import com.restaurantos.modules.menu.entity.MenuCategory;
 import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.menu.event.MenuChangedEvent;
 import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
 import com.restaurantos.modules.menu.repository.MenuItemRepository;
 import com.restaurantos.modules.menu.service.MenuItemService;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
+import com.restaurantos.modules.menu.store.MenuSnapshotStore;
 import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.modules.restaurant.service.FileStorageService;
@@ -35,29 +39,22 @@ public class MenuItemServiceImpl implements MenuItemService {
     private final RestaurantRepository restaurantRepository;
     private final FileStorageService fileStorageService;
     private final WebSocketService webSocketService;
+    private final MenuSnapshotStore menuSnapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public MenuSnapshot getMenu(UUID restaurantId) {
+        return menuSnapshotStore.get(restaurantId);
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public List<MenuItemResponse> getAll(UUID restaurantId, UUID categoryId) {
-        List<MenuItem> items;
-        if (categoryId != null) {
-            items = menuItemRepository.findByCategoryId(categoryId);
-        } else {
-            items = menuItemRepository.findByRestaurantId(restaurantId);
-        }
-        return items.stream()
-                .filter(MenuItem::getIsActive)
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return menuSnapshotStore.get(restaurantId).getItems(categoryId);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public MenuItemResponse getById(UUID id) {
-        MenuItem item = menuItemRepository.findById(id)
-                .filter(MenuItem::getIsActive)
-                .orElseThrow(() -> new ResourceNotFoundException("Menu Item not found with id: " + id));
-        return mapToResponse(item);
+    public MenuItemResponse getById(UUID restaurantId, UUID id) {
+        return menuSnapshotStore.get(restaurantId).getItem(id);
     }
 
     @Override
@@ -85,7 +82,9 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .category(category)
                 .build();
 
-        return mapToResponse(menuItemRepository.save(item));
+        MenuItem saved = menuItemRepository.save(item);
+        eventPublisher.publishEvent(new MenuChangedEvent(restaurant.getId()));
+        return MenuItemResponse.from(saved);
     }
 
     @Override
@@ -111,7 +110,9 @@ public class MenuItemServiceImpl implements MenuItemService {
         item.setIsFeatured(request.getIsFeatured());
         item.setCategory(category);
 
-        return mapToResponse(menuItemRepository.save(item));
+        MenuItem saved = menuItemRepository.save(item);
+        publishMenuChanged(saved);
+        return MenuItemResponse.from(saved);
     }
 
     @Override
@@ -121,6 +122,7 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .orElseThrow(() -> new ResourceNotFoundException("Menu Item not found with id: " + id));
         item.setIsActive(false);
         menuItemRepository.save(item);
+        publishMenuChanged(item);
     }
 
     @Override
@@ -131,7 +133,8 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .orElseThrow(() -> new ResourceNotFoundException("Menu Item not found with id: " + id));
         item.setIsAvailable(!item.getIsAvailable());
         MenuItem savedItem = menuItemRepository.save(item);
-        MenuItemResponse response = mapToResponse(savedItem);
+        publishMenuChanged(savedItem);
+        MenuItemResponse response = MenuItemResponse.from(savedItem);
 
         // Broadcast to dashboard
         webSocketService.broadcastToDashboard(item.getRestaurant().getId(), response);
@@ -144,7 +147,7 @@ public class MenuItemServiceImpl implements MenuItemService {
     public List<MenuItemResponse> search(UUID restaurantId, String query) {
         return menuItemRepository.search(restaurantId, query).stream()
                 .filter(MenuItem::getIsActive)
-                .map(this::mapToResponse)
+                .map(MenuItemResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -172,7 +175,9 @@ public class MenuItemServiceImpl implements MenuItemService {
         item.setImageUrl(urls[0]);
         item.setThumbnailUrl(urls[1]);
 
-        return mapToResponse(menuItemRepository.save(item));
+        MenuItem saved = menuItemRepository.save(item);
+        publishMenuChanged(saved);
+        return MenuItemResponse.from(saved);
     }
 
     @Override
@@ -199,30 +204,13 @@ public class MenuItemServiceImpl implements MenuItemService {
             }
         }
         menuItemRepository.saveAll(items);
+        items.stream()
+                .map(item -> item.getRestaurant().getId())
+                .distinct()
+                .forEach(restaurantId -> eventPublisher.publishEvent(new MenuChangedEvent(restaurantId)));
     }
 
-    private MenuItemResponse mapToResponse(MenuItem item) {
-        return MenuItemResponse.builder()
-                .id(item.getId())
-                .name(item.getName())
-                .description(item.getDescription())
-                .price(item.getPrice())
-                .imageUrl(item.getImageUrl())
-                .thumbnailUrl(item.getThumbnailUrl())
-                .prepTime(item.getPrepTime())
-                .spicyLevel(item.getSpicyLevel())
-                .isVegetarian(item.getIsVegetarian())
-                .allergens(item.getAllergens())
-                .isAvailable(item.getIsAvailable())
-                .displayOrder(item.getDisplayOrder())
-                .isFeatured(item.getIsFeatured())
-                .orderCount(item.getOrderCount())
-                .ratingAvg(item.getRatingAvg())
-                .ratingCount(item.getRatingCount())
-                .categoryId(item.getCategory().getId())
-                .categoryName(item.getCategory().getName())
-                .createdAt(item.getCreatedAt())
-                .updatedAt(item.getUpdatedAt())
-                .build();
+    private void publishMenuChanged(MenuItem item) {
+        eventPublisher.publishEvent(new MenuChangedEvent(item.getRestaurant().getId()));
     }
 }
@@ -0,0 +1,157 @@
+package com.restaurantos.modules.menu.store;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.menu.dto.response.CategoryResponse;
+import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
+import com.restaurantos.shared.dto.ApiResponse;
+import com.restaurantos.shared.exception.ResourceNotFoundException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable view of one restaurant's public menu: its active categories and
+ * active items, together with the {@link ApiResponse} bodies for the menu
+ * endpoints already serialized to JSON. The response timestamp is the time
+ * the snapshot was built.
+ *
+ * <p>The entity tag is derived from the menu content alone, so every node
+ * that builds the same menu hands out the same tag.
+ *
+ * <p>The DTOs are shared by every reader and must be treated as read-only.
+ */
+@Getter
+public final class MenuSnapshot {
+
+    private final UUID restaurantId;
+    private final List<CategoryResponse> categories;
+    private final List<MenuItemResponse> items;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, MenuItemResponse> itemsById;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, List<MenuItemResponse>> itemsByCategory;
+
+    private final byte[] categoriesJson;
+    @Getter(AccessLevel.NONE)
+    private final byte[] itemsJson;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, byte[]> itemsJsonByCategory;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, byte[]> itemJsonById;
+    @Getter(AccessLevel.NONE)
+    private final byte[] emptyItemsJson;
+    @Getter(AccessLevel.NONE)
+    private final String eTag;
+
+    public MenuSnapshot(UUID restaurantId, List<CategoryResponse> categories, List<MenuItemResponse> items,
+            ObjectMapper objectMapper) {
+        this.restaurantId = restaurantId;
+        this.categories = List.copyOf(categories);
+        this.items = List.copyOf(items);
+        this.itemsById = items.stream()
+                .collect(Collectors.toUnmodifiableMap(MenuItemResponse::getId, Function.identity()));
+        this.itemsByCategory = items.stream()
+                .collect(Collectors.groupingBy(MenuItemResponse::getCategoryId, LinkedHashMap::new,
+                        Collectors.toUnmodifiableList()));
+
+        this.categoriesJson = toJson(objectMapper, this.categories);
+        this.itemsJson = toJson(objectMapper, this.items);
+        this.itemsJsonByCategory = itemsByCategory.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> toJson(objectMapper, entry.getValue())));
+        this.itemJsonById = itemsById.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> toJson(objectMapper, entry.getValue())));
+        this.emptyItemsJson = toJson(objectMapper, List.of());
+        this.eTag = contentTag(objectMapper, this.categories, this.items);
+    }
+
+    /**
+     * Returns a weak entity tag for every response served from this snapshot.
+     * It is weak because the response timestamp differs between nodes that
+     * built the same menu.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Returns the active items, optionally restricted to one category.
+     */
+    public List<MenuItemResponse> getItems(UUID categoryId) {
+        if (categoryId == null) {
+            return items;
+        }
+        return itemsByCategory.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * Returns an active item of this restaurant.
+     *
+     * @throws ResourceNotFoundException if there is no such item
+     */
+    public MenuItemResponse getItem(UUID id) {
+        MenuItemResponse item = itemsById.get(id);
+        if (item == null) {
+            throw new ResourceNotFoundException("Menu Item not found with id: " + id);
+        }
+        return item;
+    }
+
+    /**
+     * Returns the serialized response for {@link #getItems(UUID)}.
+     */
+    public byte[] getItemsJson(UUID categoryId) {
+        if (categoryId == null) {
+            return itemsJson;
+        }
+        byte[] json = itemsJsonByCategory.get(categoryId);
+        return json != null ? json : emptyItemsJson;
+    }
+
+    /**
+     * Returns the serialized response for {@link #getItem(UUID)}.
+     *
+     * @throws ResourceNotFoundException if there is no such item
+     */
+    public byte[] getItemJson(UUID id) {
+        byte[] json = itemJsonById.get(id);
+        if (json == null) {
+            throw new ResourceNotFoundException("Menu Item not found with id: " + id);
+        }
+        return json;
+    }
+
+    private static byte[] toJson(ObjectMapper objectMapper, Object data) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu snapshot", e);
+        }
+    }
+
+    private static String contentTag(ObjectMapper objectMapper, List<CategoryResponse> categories,
+            List<MenuItemResponse> items) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(objectMapper.writeValueAsBytes(categories));
+            digest.update(objectMapper.writeValueAsBytes(items));
+            // 128 bits are plenty to tell menus apart
+            return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint menu snapshot", e);
+        }
+    }
+}
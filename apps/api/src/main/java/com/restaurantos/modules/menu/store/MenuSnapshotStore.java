@@ -0,0 +1,133 @@
+package com.restaurantos.modules.menu.store;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.menu.dto.response.CategoryResponse;
+import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
+import com.restaurantos.modules.menu.event.MenuChangedEvent;
+import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory cache of per-restaurant {@link MenuSnapshot}s for the public
+ * ordering path.
+ *
+ * <p>A snapshot is built on the first read and kept until a committed
+ * {@link MenuChangedEvent} for its restaurant drops it. At most
+ * {@code app.menu.cache.max-restaurants} snapshots are kept; the least
+ * recently read one is evicted first.
+ */
+@Component
+@Slf4j
+public class MenuSnapshotStore {
+
+    private final MenuCategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, MenuSnapshot> snapshots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MenuSnapshotStore(MenuCategoryRepository categoryRepository, MenuItemRepository menuItemRepository,
+            ObjectMapper objectMapper, @Value("${app.menu.cache.max-restaurants:1000}") int maxRestaurants) {
+        this.categoryRepository = categoryRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.objectMapper = objectMapper;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, MenuSnapshot> eldest) {
+                return size() > maxRestaurants;
+            }
+        };
+    }
+
+    /**
+     * Returns the restaurant's current menu, building it from the database if
+     * it is not cached.
+     */
+    public MenuSnapshot get(UUID restaurantId) {
+        MenuSnapshot snapshot = cached(restaurantId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // A snapshot loaded while a change commits may already be out of date,
+        // so it is only cached if nothing was invalidated in the meantime.
+        long invalidationsBefore = invalidations.get();
+        snapshot = load(restaurantId);
+        lock.lock();
+        try {
+            if (invalidations.get() == invalidationsBefore) {
+                snapshots.put(restaurantId, snapshot);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops a restaurant's snapshot so that the next read rebuilds it.
+     */
+    public void invalidate(UUID restaurantId) {
+        lock.lock();
+        try {
+            invalidations.incrementAndGet();
+            snapshots.remove(restaurantId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return snapshots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidate(event.getRestaurantId());
+    }
+
+    private MenuSnapshot cached(UUID restaurantId) {
+        lock.lock();
+        try {
+            return snapshots.get(restaurantId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MenuSnapshot load(UUID restaurantId) {
+        List<CategoryResponse> categories = categoryRepository
+                .findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId).stream()
+                .map(CategoryResponse::from)
+                .toList();
+        List<MenuItemResponse> items = menuItemRepository
+                .findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId).stream()
+                .map(MenuItemResponse::from)
+                .toList();
+
+        MenuSnapshot snapshot = new MenuSnapshot(restaurantId, categories, items, objectMapper);
+        log.debug("Built menu snapshot {} for restaurant {} with {} items", snapshot.getETag(), restaurantId,
+                items.size());
+        return snapshot;
+    }
+}
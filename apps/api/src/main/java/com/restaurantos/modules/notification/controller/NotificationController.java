@@ -11,7 +11,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.restaurantos.modules.auth.entity.User;
+import com.restaurantos.modules.auth.security.AuthenticatedUser;
 import com.restaurantos.modules.notification.dto.response.NotificationResponse;
 import com.restaurantos.modules.notification.service.NotificationService;
 import com.restaurantos.shared.dto.ApiResponse;
@@ -29,8 +29,8 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getUnread(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadNotifications(user.getId())));
+    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getUnread(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadNotifications(user.id())));
     }
 
     @PutMapping("/{id}/read")
@@ -40,8 +40,8 @@ public class NotificationController {
     }
 
     @PutMapping("/read-all")
-    public ResponseEntity<ApiResponse<Void>> markAllAsRead(@AuthenticationPrincipal User user) {
-        notificationService.markAllAsRead(user.getId());
+    public ResponseEntity<ApiResponse<Void>> markAllAsRead(@AuthenticationPrincipal AuthenticatedUser user) {
+        notificationService.markAllAsRead(user.id());
         return ResponseEntity.ok(ApiResponse.success("All notifications marked as read", null));
     }
 }
@@ -26,8 +26,8 @@ import lombok.ToString;
  */
 @Entity
 @Table(name = "notifications", indexes = {
-        @Index(name = "idx_notification_user", columnList = "user_id"),
-        @Index(name = "idx_notification_is_read", columnList = "is_read")
+        // Unread-by-user listing, newest first (V2 migration)
+        @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at")
 })
 @Getter
 @Setter
@@ -37,7 +37,7 @@ import lombok.ToString;
 @ToString(exclude = "user")
 public class Notification extends BaseEntity {
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -0,0 +1,44 @@
+package com.restaurantos.modules.order.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.restaurantos.modules.order.dto.response.KitchenBoardDeltaResponse;
+import com.restaurantos.modules.order.dto.response.KitchenBoardResponse;
+import com.restaurantos.modules.order.service.KitchenBoardService;
+import com.restaurantos.shared.dto.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST controller for the kitchen display board. Screens load a snapshot
+ * once and then poll for the changes after its version.
+ */
+@RestController
+@RequestMapping("/api/restaurants/{restaurantId}/kitchen/board")
+@RequiredArgsConstructor
+public class KitchenBoardController {
+
+    private final KitchenBoardService kitchenBoardService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'STAFF', 'KITCHEN')")
+    public ResponseEntity<ApiResponse<KitchenBoardResponse>> getBoard(@PathVariable UUID restaurantId) {
+        return ResponseEntity.ok(ApiResponse.success(kitchenBoardService.getBoard(restaurantId)));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'STAFF', 'KITCHEN')")
+    public ResponseEntity<ApiResponse<KitchenBoardDeltaResponse>> getChanges(
+            @PathVariable UUID restaurantId,
+            @RequestParam long since) {
+        return ResponseEntity.ok(ApiResponse.success(kitchenBoardService.getChanges(restaurantId, since)));
+    }
+}
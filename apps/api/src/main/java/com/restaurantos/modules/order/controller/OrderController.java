@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.restaurantos.modules.order.dto.request.BulkUpdateOrderItemStatusRequest;
 import com.restaurantos.modules.order.dto.request.CreateOrderRequest;
 import com.restaurantos.modules.order.dto.request.UpdateOrderItemStatusRequest;
 import com.restaurantos.modules.order.dto.request.UpdateOrderStatusRequest;
@@ -25,6 +26,7 @@ import com.restaurantos.modules.order.entity.OrderStatus;
 import com.restaurantos.modules.order.service.OrderItemService;
 import com.restaurantos.modules.order.service.OrderService;
 import com.restaurantos.shared.dto.ApiResponse;
+import com.restaurantos.shared.dto.CursorPage;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -42,10 +44,12 @@ public class OrderController {
 
     @GetMapping("/orders")
     @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'STAFF', 'KITCHEN')")
-    public ResponseEntity<ApiResponse<List<OrderResponse>>> getAll(
+    public ResponseEntity<ApiResponse<CursorPage<OrderResponse>>> getAll(
             @PathVariable UUID restaurantId,
-            @RequestParam(required = false) OrderStatus status) {
-        return ResponseEntity.ok(ApiResponse.success(orderService.getAll(restaurantId, status)));
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(ApiResponse.success(orderService.getPage(restaurantId, status, cursor, size)));
     }
 
     @GetMapping("/orders/{id}")
@@ -82,6 +86,15 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success("Order item status updated", response));
     }
 
+    @PutMapping("/order-items/status")
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'STAFF', 'KITCHEN')")
+    public ResponseEntity<ApiResponse<List<OrderResponse>>> updateItemStatuses(
+            @PathVariable UUID restaurantId,
+            @Valid @RequestBody BulkUpdateOrderItemStatusRequest request) {
+        List<OrderResponse> response = orderItemService.updateStatuses(restaurantId, request);
+        return ResponseEntity.ok(ApiResponse.success("Order item statuses updated", response));
+    }
+
     @DeleteMapping("/orders/{id}")
     @PreAuthorize("hasRole('OWNER')")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable UUID id) {
@@ -0,0 +1,31 @@
+package com.restaurantos.modules.order.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.restaurantos.modules.order.entity.OrderItemStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for moving many order items to the same status at once, such
+ * as bumping a whole ticket in the kitchen.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateOrderItemStatusRequest {
+    @NotEmpty(message = "Item IDs are required")
+    @Size(max = 200, message = "Cannot update more than 200 items at once")
+    private List<@NotNull UUID> itemIds;
+
+    @NotNull(message = "Status is required")
+    private OrderItemStatus status;
+}
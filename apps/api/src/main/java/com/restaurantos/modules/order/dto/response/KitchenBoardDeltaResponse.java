@@ -0,0 +1,37 @@
+package com.restaurantos.modules.order.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the kitchen board changes after a client's version. When
+ * {@code resync} is set the changes are no longer available and the client
+ * has to load a new snapshot instead.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenBoardDeltaResponse {
+    private long version;
+    private boolean resync;
+    private List<Change> changes;
+
+    /**
+     * The new state of one order, or {@code null} once it left the board.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private long version;
+        private UUID orderId;
+        private KitchenOrderResponse order;
+    }
+}
@@ -0,0 +1,21 @@
+package com.restaurantos.modules.order.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a snapshot of a restaurant's kitchen board: its open
+ * orders, oldest first, as of {@code version}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenBoardResponse {
+    private long version;
+    private List<KitchenOrderResponse> orders;
+}
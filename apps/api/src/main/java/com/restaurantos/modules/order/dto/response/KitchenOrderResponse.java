@@ -0,0 +1,43 @@
+package com.restaurantos.modules.order.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.restaurantos.modules.order.entity.OrderItemStatus;
+import com.restaurantos.modules.order.entity.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for an open order as shown on the kitchen board: what to cook
+ * and where it goes, without prices or payment details.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenOrderResponse {
+    private UUID id;
+    private String orderNumber;
+    private String tableNumber;
+    private OrderStatus status;
+    private String specialInstructions;
+    private LocalDateTime createdAt;
+    private List<KitchenItemResponse> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class KitchenItemResponse {
+        private UUID id;
+        private String itemName;
+        private Integer quantity;
+        private OrderItemStatus status;
+        private String specialInstructions;
+    }
+}
@@ -4,7 +4,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
 import com.restaurantos.modules.order.entity.OrderItemStatus;
 import com.restaurantos.modules.order.entity.OrderStatus;
 import com.restaurantos.modules.order.entity.PaymentStatus;
@@ -41,6 +44,36 @@ public class OrderResponse {
     private LocalDateTime createdAt;
     private List<OrderItemResponse> items;
 
+    public static OrderResponse from(Order order) {
+        return from(order, order.getItems());
+    }
+
+    /**
+     * Maps an order with items loaded separately from it, e.g. in one query
+     * for a whole page of orders.
+     */
+    public static OrderResponse from(Order order, List<OrderItem> items) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .tableId(order.getTable() != null ? order.getTable().getId() : null)
+                .tableNumber(order.getTable() != null ? order.getTable().getTableNumber().toString() : "N/A")
+                .customerName(order.getCustomerName())
+                .customerPhone(order.getCustomerPhone())
+                .status(order.getStatus())
+                .subtotal(order.getSubtotal())
+                .discountAmount(order.getDiscountAmount())
+                .taxAmount(order.getTaxAmount())
+                .totalAmount(order.getTotalAmount())
+                .paymentMethod(order.getPaymentMethod())
+                .paymentStatus(order.getPaymentStatus())
+                .paidAt(order.getPaidAt())
+                .specialInstructions(order.getSpecialInstructions())
+                .createdAt(order.getCreatedAt())
+                .items(items.stream().map(OrderItemResponse::from).collect(Collectors.toList()))
+                .build();
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -54,5 +87,18 @@ public class OrderResponse {
         private BigDecimal subtotal;
         private OrderItemStatus status;
         private String specialInstructions;
+
+        public static OrderItemResponse from(OrderItem item) {
+            return OrderItemResponse.builder()
+                    .id(item.getId())
+                    .menuItemId(item.getMenuItem() != null ? item.getMenuItem().getId() : null)
+                    .itemName(item.getItemName())
+                    .unitPrice(item.getUnitPrice())
+                    .quantity(item.getQuantity())
+                    .subtotal(item.getSubtotal())
+                    .status(item.getStatus())
+                    .specialInstructions(item.getSpecialInstructions())
+                    .build();
+        }
     }
 }
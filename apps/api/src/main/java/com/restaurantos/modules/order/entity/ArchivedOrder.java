@@ -0,0 +1,137 @@
+package com.restaurantos.modules.order.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.restaurantos.modules.payment.entity.PaymentMethod;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.shared.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A closed order moved out of {@code orders} by the order archive job. Same
+ * columns as {@link Order}; rows are only ever written by the job's bulk
+ * copy, so the entity is read-only.
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_order_archive_table", columnList = "table_id"),
+        @Index(name = "idx_order_archive_restaurant_created", columnList = "restaurant_id, created_at"),
+        @Index(name = "idx_order_archive_restaurant_status_created", columnList = "restaurant_id, status, created_at"),
+        @Index(name = "idx_order_archive_restaurant_phone_created",
+                columnList = "restaurant_id, customer_phone, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = { "restaurant", "table" })
+public class ArchivedOrder extends BaseEntity {
+
+    @Column(name = "order_number", nullable = false, length = 20)
+    private String orderNumber;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "customer_phone", length = 20)
+    private String customerPhone;
+
+    @Column(name = "assigned_staff_id")
+    private UUID assignedStaffId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OrderStatus status;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(name = "discount_amount", precision = 19, scale = 2)
+    private BigDecimal discountAmount;
+
+    @Column(name = "tax_amount", precision = 19, scale = 2)
+    private BigDecimal taxAmount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", length = 30)
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, length = 30)
+    private PaymentStatus paymentStatus;
+
+    private LocalDateTime paidAt;
+
+    @Column(name = "special_instructions", columnDefinition = "TEXT")
+    private String specialInstructions;
+
+    private LocalDateTime confirmedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime cancelledAt;
+
+    // The archive copy writes the key columns; the associations only read them
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "table_id")
+    private UUID tableId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id", insertable = false, updatable = false)
+    private Restaurant restaurant;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "table_id", insertable = false, updatable = false)
+    private RestaurantTable table;
+
+    /**
+     * Rebuilds the order as a detached {@link Order}, so that read paths map
+     * hot and archived orders the same way. The result must not be saved.
+     */
+    public Order toOrder(List<ArchivedOrderItem> items) {
+        Order order = Order.builder()
+                .orderNumber(orderNumber)
+                .customerName(customerName)
+                .customerPhone(customerPhone)
+                .assignedStaffId(assignedStaffId)
+                .status(status)
+                .subtotal(subtotal)
+                .discountAmount(discountAmount)
+                .taxAmount(taxAmount)
+                .totalAmount(totalAmount)
+                .paymentMethod(paymentMethod)
+                .paymentStatus(paymentStatus)
+                .paidAt(paidAt)
+                .specialInstructions(specialInstructions)
+                .confirmedAt(confirmedAt)
+                .completedAt(completedAt)
+                .cancelledAt(cancelledAt)
+                .restaurant(restaurant)
+                .table(table)
+                .build();
+        order.setId(getId());
+        order.setCreatedAt(getCreatedAt());
+        order.setUpdatedAt(getUpdatedAt());
+        order.setVersion(getVersion());
+        items.forEach(item -> order.addItem(item.toOrderItem()));
+        return order;
+    }
+}
@@ -0,0 +1,93 @@
+package com.restaurantos.modules.order.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.shared.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A line of an {@link ArchivedOrder}. Read-only, like its order.
+ */
+@Entity
+@Table(name = "order_items_archive", indexes = {
+        @Index(name = "idx_order_item_archive_order", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = { "order", "menuItem" })
+public class ArchivedOrderItem extends BaseEntity {
+
+    // The archive copy writes the key columns; the associations only read them
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "menu_item_id")
+    private UUID menuItemId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", insertable = false, updatable = false)
+    private ArchivedOrder order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_item_id", insertable = false, updatable = false)
+    private MenuItem menuItem;
+
+    @Column(name = "item_name", nullable = false)
+    private String itemName;
+
+    @Column(name = "unit_price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(name = "special_instructions", columnDefinition = "TEXT")
+    private String specialInstructions;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OrderItemStatus status;
+
+    private LocalDateTime startedPreparingAt;
+    private LocalDateTime readyAt;
+    private LocalDateTime servedAt;
+
+    OrderItem toOrderItem() {
+        OrderItem item = OrderItem.builder()
+                .menuItem(menuItem)
+                .itemName(itemName)
+                .unitPrice(unitPrice)
+                .quantity(quantity)
+                .subtotal(subtotal)
+                .specialInstructions(specialInstructions)
+                .status(status)
+                .startedPreparingAt(startedPreparingAt)
+                .readyAt(readyAt)
+                .servedAt(servedAt)
+                .build();
+        item.setId(getId());
+        item.setCreatedAt(getCreatedAt());
+        item.setUpdatedAt(getUpdatedAt());
+        item.setVersion(getVersion());
+        return item;
+    }
+}
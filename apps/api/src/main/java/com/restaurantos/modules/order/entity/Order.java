@@ -30,14 +30,21 @@ import lombok.Setter;
 import lombok.ToString;
 
 /**
- * Entity representing a customer order.
+ * Entity representing a customer order. Closed orders past the archive
+ * horizon are moved to {@link ArchivedOrder}.
  */
 @Entity
 @Table(name = "orders", indexes = {
-        @Index(name = "idx_order_restaurant", columnList = "restaurant_id"),
         @Index(name = "idx_order_table", columnList = "table_id"),
-        @Index(name = "idx_order_status", columnList = "status"),
-        @Index(name = "idx_order_number", columnList = "order_number")
+        @Index(name = "idx_order_number", columnList = "order_number"),
+        // Keyset pagination and per-restaurant reports (V2 migration); InnoDB appends the
+        // primary key, completing the (created_at, id) order
+        @Index(name = "idx_order_restaurant_created", columnList = "restaurant_id, created_at"),
+        @Index(name = "idx_order_restaurant_status_created", columnList = "restaurant_id, status, created_at"),
+        // Returning-customer lookups of the daily report (V4 migration)
+        @Index(name = "idx_order_restaurant_phone_created", columnList = "restaurant_id, customer_phone, created_at"),
+        // Closed orders by age, for the archive job (V6 migration); also serves status-only filters
+        @Index(name = "idx_order_status_created", columnList = "status, created_at")
 })
 @Getter
 @Setter
@@ -96,7 +103,9 @@ public class Order extends BaseEntity {
     private LocalDateTime completedAt;
     private LocalDateTime cancelledAt;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    // Not optional, so derived findByRestaurantId... queries filter on the column
+    // rather than outer joining restaurants, and can use the composite indexes
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 
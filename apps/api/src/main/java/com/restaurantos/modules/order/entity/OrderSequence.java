@@ -0,0 +1,47 @@
+package com.restaurantos.modules.order.entity;
+
+import java.time.LocalDate;
+
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.shared.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Per-restaurant order number counter. A single row per restaurant holds the
+ * last number handed out and the day it belongs to; the counter restarts
+ * when the day changes.
+ */
+@Entity
+@Table(name = "order_sequences", uniqueConstraints = @UniqueConstraint(columnNames = "restaurant_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "restaurant")
+public class OrderSequence extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id", nullable = false)
+    private Restaurant restaurant;
+
+    @Column(name = "sequence_date", nullable = false)
+    private LocalDate sequenceDate;
+
+    @Column(name = "last_number", nullable = false)
+    @Builder.Default
+    private Integer lastNumber = 0;
+}
@@ -2,15 +2,23 @@ package com.restaurantos.modules.order.event;
 
 import java.util.UUID;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.Getter;
 
 /**
- * Event published when an order is completed.
+ * Event published through the outbox when an order is completed.
  */
 @Getter
-@AllArgsConstructor
 public class OrderCompletedEvent {
     private final UUID orderId;
     private final UUID restaurantId;
+
+    @JsonCreator
+    public OrderCompletedEvent(@JsonProperty("orderId") UUID orderId,
+            @JsonProperty("restaurantId") UUID restaurantId) {
+        this.orderId = orderId;
+        this.restaurantId = restaurantId;
+    }
 }
@@ -0,0 +1,18 @@
+package com.restaurantos.modules.order.event;
+
+import java.util.UUID;
+
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a new order has been placed.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCreatedEvent {
+    private final UUID restaurantId;
+    private final OrderResponse order;
+}
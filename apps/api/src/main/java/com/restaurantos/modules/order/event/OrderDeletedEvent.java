@@ -0,0 +1,16 @@
+package com.restaurantos.modules.order.event;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when an order has been deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderDeletedEvent {
+    private final UUID restaurantId;
+    private final UUID orderId;
+}
@@ -0,0 +1,20 @@
+package com.restaurantos.modules.order.event;
+
+import java.util.UUID;
+
+import com.restaurantos.modules.order.dto.response.OrderResponse.OrderItemResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published whenever an order item moves to a different status.
+ * {@code item} reflects the state after the change.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderItemStatusChangedEvent {
+    private final UUID restaurantId;
+    private final UUID orderId;
+    private final OrderItemResponse item;
+}
@@ -0,0 +1,21 @@
+package com.restaurantos.modules.order.event;
+
+import java.util.UUID;
+
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published whenever an order moves to a different status.
+ * {@code order} reflects the state after the change.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+    private final UUID restaurantId;
+    private final OrderStatus previousStatus;
+    private final OrderResponse order;
+}
@@ -0,0 +1,116 @@
+package com.restaurantos.modules.order.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.repository.PlanOrderCount;
+import com.restaurantos.modules.restaurant.entity.SubscriptionPlan;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order volume metrics: orders created and completed, and orders currently
+ * open. Every meter is tagged with the restaurant's subscription plan rather
+ * than its id so that the number of series stays fixed as restaurants sign up.
+ *
+ * <p>Counters follow committed order events. The open-orders gauge is read
+ * from the database, at most once per {@link #OPEN_ORDERS_MAX_AGE}, so it also
+ * reflects orders changed on other nodes or deleted.
+ */
+@Component
+@Slf4j
+public class OrderMetrics {
+
+    static final Duration OPEN_ORDERS_MAX_AGE = Duration.ofSeconds(10);
+
+    private static final Set<OrderStatus> OPEN = EnumSet.complementOf(
+            EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED));
+
+    private final RestaurantRepository restaurantRepository;
+    private final OrderRepository orderRepository;
+    private final Map<SubscriptionPlan, Counter> created = new EnumMap<>(SubscriptionPlan.class);
+    private final Map<SubscriptionPlan, Counter> completed = new EnumMap<>(SubscriptionPlan.class);
+
+    // Plans change rarely and only through billing; a restart picks up a change
+    private final Map<UUID, SubscriptionPlan> plans = new ConcurrentHashMap<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<SubscriptionPlan, Long> openOrders = Map.of();
+    private volatile Instant openOrdersReadAt = Instant.EPOCH;
+
+    public OrderMetrics(MeterRegistry meterRegistry, RestaurantRepository restaurantRepository,
+            OrderRepository orderRepository) {
+        this.restaurantRepository = restaurantRepository;
+        this.orderRepository = orderRepository;
+        for (SubscriptionPlan plan : SubscriptionPlan.values()) {
+            created.put(plan, Counter.builder("restaurantos.orders.created")
+                    .description("Orders placed")
+                    .tag("plan", plan.name())
+                    .register(meterRegistry));
+            completed.put(plan, Counter.builder("restaurantos.orders.completed")
+                    .description("Orders moved to COMPLETED")
+                    .tag("plan", plan.name())
+                    .register(meterRegistry));
+            Gauge.builder("restaurantos.orders.open", this, metrics -> metrics.openOrders(plan))
+                    .description("Orders neither completed nor cancelled")
+                    .tag("plan", plan.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        created.get(planOf(event.getRestaurantId())).increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getOrder().getStatus() == OrderStatus.COMPLETED
+                && event.getPreviousStatus() != OrderStatus.COMPLETED) {
+            completed.get(planOf(event.getRestaurantId())).increment();
+        }
+    }
+
+    double openOrders(SubscriptionPlan plan) {
+        if (openOrdersReadAt.plus(OPEN_ORDERS_MAX_AGE).isBefore(Instant.now()) && refreshLock.tryLock()) {
+            // Concurrent scrapes keep reporting the previous counts instead of queueing up
+            try {
+                Map<SubscriptionPlan, Long> counts = new EnumMap<>(SubscriptionPlan.class);
+                for (PlanOrderCount count : orderRepository.countByPlanAndStatusIn(OPEN)) {
+                    counts.put(count.plan(), count.count());
+                }
+                openOrders = counts;
+            } catch (RuntimeException e) {
+                log.warn("Failed to count open orders: {}", e.getMessage());
+            } finally {
+                openOrdersReadAt = Instant.now();
+                refreshLock.unlock();
+            }
+        }
+        return openOrders.getOrDefault(plan, 0L);
+    }
+
+    private SubscriptionPlan planOf(UUID restaurantId) {
+        SubscriptionPlan plan = plans.computeIfAbsent(restaurantId,
+                id -> restaurantRepository.findPlanById(id).orElse(null));
+        return plan != null ? plan : SubscriptionPlan.FREE;
+    }
+}
@@ -0,0 +1,48 @@
+package com.restaurantos.modules.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurantos.modules.analytics.dto.response.TopDishResponse;
+import com.restaurantos.modules.order.entity.ArchivedOrderItem;
+import com.restaurantos.modules.order.entity.OrderStatus;
+
+/**
+ * Repository for ArchivedOrderItem entity.
+ */
+@Repository
+public interface ArchivedOrderItemRepository extends JpaRepository<ArchivedOrderItem, UUID> {
+
+    // Copies the items of orders being archived; run after ArchivedOrderRepository#copyFrom
+    @Modifying
+    @Query("INSERT INTO ArchivedOrderItem (id, createdAt, updatedAt, version, orderId, menuItemId, itemName, "
+            + "unitPrice, quantity, subtotal, specialInstructions, status, startedPreparingAt, readyAt, servedAt) "
+            + "SELECT i.id, i.createdAt, i.updatedAt, i.version, i.order.id, i.menuItem.id, i.itemName, "
+            + "i.unitPrice, i.quantity, i.subtotal, i.specialInstructions, i.status, i.startedPreparingAt, "
+            + "i.readyAt, i.servedAt "
+            + "FROM OrderItem i WHERE i.order.id IN :orderIds")
+    int copyFrom(@Param("orderIds") Collection<UUID> orderIds);
+
+    List<ArchivedOrderItem> findByOrderIdIn(Collection<UUID> orderIds);
+
+    // OrderItemRepository#findTopSellingItems for an archived period
+    @Query("SELECT new com.restaurantos.modules.analytics.dto.response.TopDishResponse("
+            + "oi.menuItemId, oi.itemName, SUM(oi.quantity), SUM(oi.subtotal)) "
+            + "FROM ArchivedOrderItem oi JOIN oi.order o "
+            + "WHERE o.restaurantId = :restaurantId AND o.createdAt >= :startDate AND o.createdAt <= :endDate "
+            + "AND o.status = :completed "
+            + "GROUP BY oi.menuItemId, oi.itemName "
+            + "ORDER BY SUM(oi.quantity) DESC")
+    List<TopDishResponse> findTopSellingItems(@Param("restaurantId") UUID restaurantId,
+            @Param("completed") OrderStatus completed, @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate, Pageable pageable);
+}
@@ -0,0 +1,100 @@
+package com.restaurantos.modules.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurantos.modules.order.entity.ArchivedOrder;
+import com.restaurantos.modules.order.entity.OrderStatus;
+
+/**
+ * Repository for ArchivedOrder entity. The read queries mirror those of
+ * {@link OrderRepository} so that read paths can continue into the archive.
+ */
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+
+    // Copies orders with their ids and timestamps; the archive job deletes the originals in the same transaction
+    @Modifying
+    @Query("INSERT INTO ArchivedOrder (id, createdAt, updatedAt, version, orderNumber, customerName, customerPhone, "
+            + "assignedStaffId, status, subtotal, discountAmount, taxAmount, totalAmount, paymentMethod, "
+            + "paymentStatus, paidAt, specialInstructions, confirmedAt, completedAt, cancelledAt, restaurantId, "
+            + "tableId) "
+            + "SELECT o.id, o.createdAt, o.updatedAt, o.version, o.orderNumber, o.customerName, o.customerPhone, "
+            + "o.assignedStaffId, o.status, o.subtotal, o.discountAmount, o.taxAmount, o.totalAmount, "
+            + "o.paymentMethod, o.paymentStatus, o.paidAt, o.specialInstructions, o.confirmedAt, o.completedAt, "
+            + "o.cancelledAt, o.restaurant.id, o.table.id "
+            + "FROM Order o WHERE o.id IN :ids")
+    int copyFrom(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = "table")
+    List<ArchivedOrder> findByRestaurantIdOrderByCreatedAtDescIdDesc(UUID restaurantId, Limit limit);
+
+    @EntityGraph(attributePaths = "table")
+    List<ArchivedOrder> findByRestaurantIdAndStatusOrderByCreatedAtDescIdDesc(UUID restaurantId, OrderStatus status,
+            Limit limit);
+
+    @EntityGraph(attributePaths = "table")
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.restaurantId = :restaurantId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<ArchivedOrder> findNextPage(@Param("restaurantId") UUID restaurantId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @EntityGraph(attributePaths = "table")
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.restaurantId = :restaurantId AND o.status = :status "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<ArchivedOrder> findNextPageByStatus(@Param("restaurantId") UUID restaurantId,
+            @Param("status") OrderStatus status, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+            Limit limit);
+
+    boolean existsByRestaurantIdAndCreatedAtBetween(UUID restaurantId, LocalDateTime start, LocalDateTime end);
+
+    // OrderRepository#summarizeDay for a day that has been archived. Earlier orders of a customer may sit in
+    // either table, so first-time customers are checked against both
+    @Query("SELECT new com.restaurantos.modules.order.repository.DailyOrderTotals("
+            + "COALESCE(SUM(CASE WHEN o.status = :completed THEN o.totalAmount ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN o.status = :completed THEN 1 ELSE 0 END), 0), "
+            + "COUNT(DISTINCT o.customerPhone), "
+            + "(SELECT COUNT(DISTINCT n.customerPhone) FROM ArchivedOrder n WHERE n.restaurantId = :restaurantId "
+            + "AND n.createdAt BETWEEN :start AND :end AND NOT EXISTS (SELECT 1 FROM ArchivedOrder p "
+            + "WHERE p.restaurantId = :restaurantId AND p.customerPhone = n.customerPhone "
+            + "AND p.createdAt < :start) AND NOT EXISTS (SELECT 1 FROM Order h "
+            + "WHERE h.restaurant.id = :restaurantId AND h.customerPhone = n.customerPhone "
+            + "AND h.createdAt < :start)), "
+            + "(SELECT AVG((i.readyAt - i.startedPreparingAt) by second) FROM ArchivedOrderItem i JOIN i.order io "
+            + "WHERE io.restaurantId = :restaurantId AND io.createdAt BETWEEN :start AND :end "
+            + "AND i.startedPreparingAt IS NOT NULL AND i.readyAt IS NOT NULL), "
+            + "(SELECT COUNT(i) FROM ArchivedOrderItem i JOIN i.order io "
+            + "WHERE io.restaurantId = :restaurantId AND io.createdAt BETWEEN :start AND :end "
+            + "AND i.startedPreparingAt IS NOT NULL AND i.readyAt IS NOT NULL)) "
+            + "FROM ArchivedOrder o WHERE o.restaurantId = :restaurantId AND o.createdAt BETWEEN :start AND :end")
+    DailyOrderTotals summarizeDay(@Param("restaurantId") UUID restaurantId,
+            @Param("completed") OrderStatus completed, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // OrderRepository#findCustomerPhones and #findNewCustomerPhones for the archived part of a day
+    @Query("SELECT DISTINCT o.customerPhone FROM ArchivedOrder o WHERE o.restaurantId = :restaurantId "
+            + "AND o.createdAt BETWEEN :start AND :end AND o.customerPhone IS NOT NULL")
+    List<String> findCustomerPhones(@Param("restaurantId") UUID restaurantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query("SELECT DISTINCT n.customerPhone FROM ArchivedOrder n WHERE n.restaurantId = :restaurantId "
+            + "AND n.createdAt BETWEEN :start AND :end AND n.customerPhone IS NOT NULL AND NOT EXISTS (SELECT 1 "
+            + "FROM ArchivedOrder p WHERE p.restaurantId = :restaurantId AND p.customerPhone = n.customerPhone "
+            + "AND p.createdAt < :start) AND NOT EXISTS (SELECT 1 FROM Order h "
+            + "WHERE h.restaurant.id = :restaurantId AND h.customerPhone = n.customerPhone "
+            + "AND h.createdAt < :start)")
+    List<String> findNewCustomerPhones(@Param("restaurantId") UUID restaurantId,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
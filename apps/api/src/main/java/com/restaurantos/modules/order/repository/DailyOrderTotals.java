@@ -0,0 +1,13 @@
+package com.restaurantos.modules.order.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of one restaurant's order totals for a day: revenue and number of
+ * completed orders, distinct and first-time customers across all orders, and
+ * the average kitchen preparation time of an item in seconds ({@code null}
+ * when no item went from preparing to ready) over that many prepared items.
+ */
+public record DailyOrderTotals(BigDecimal completedRevenue, Long completedOrders, Long customers,
+        Long newCustomers, Double avgPrepSeconds, Long preparedItems) {
+}
@@ -1,9 +1,15 @@
 package com.restaurantos.modules.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.order.entity.OrderItem;
@@ -16,6 +22,38 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
 
     List<OrderItem> findByOrderIdAndStatus(UUID orderId, OrderItemStatus status);
 
+    /**
+     * Loads the items of many orders at once, for listing screens that would
+     * otherwise initialize each order's item collection separately.
+     */
+    List<OrderItem> findByOrderIdIn(Collection<UUID> orderIds);
+
+    // Bulk status updates: the items of one restaurant with their orders, in one query
+    @EntityGraph(attributePaths = "order")
+    List<OrderItem> findByIdInAndOrderRestaurantId(Collection<UUID> ids, UUID restaurantId);
+
+    /**
+     * Moves many items to one status in a single statement. Only the
+     * timestamp for the new status is passed; the others are kept. Bypasses
+     * auditing and dirty checking, so {@code updatedAt} and {@code version}
+     * are maintained here and the persistence context is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderItem i SET i.status = :status, "
+            + "i.startedPreparingAt = COALESCE(:startedPreparingAt, i.startedPreparingAt), "
+            + "i.readyAt = COALESCE(:readyAt, i.readyAt), "
+            + "i.servedAt = COALESCE(:servedAt, i.servedAt), "
+            + "i.updatedAt = :now, i.version = i.version + 1 "
+            + "WHERE i.id IN :ids")
+    int updateStatuses(@Param("ids") Collection<UUID> ids, @Param("status") OrderItemStatus status,
+            @Param("startedPreparingAt") LocalDateTime startedPreparingAt, @Param("readyAt") LocalDateTime readyAt,
+            @Param("servedAt") LocalDateTime servedAt, @Param("now") LocalDateTime now);
+
+    // Removes the items of orders that were copied to the archive
+    @Modifying
+    @Query("DELETE FROM OrderItem i WHERE i.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
     @org.springframework.data.jpa.repository.Query("SELECT new com.restaurantos.modules.analytics.dto.response.TopDishResponse("
             +
             "oi.menuItem.id, oi.itemName, SUM(oi.quantity), SUM(oi.subtotal)) " +
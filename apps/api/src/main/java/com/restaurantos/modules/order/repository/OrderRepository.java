@@ -1,10 +1,16 @@
 package com.restaurantos.modules.order.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.order.entity.Order;
@@ -13,12 +19,115 @@ import com.restaurantos.modules.order.entity.OrderStatus;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, UUID> {
 
+    // Listing queries fetch the table in the same query; see OrderItemRepository#findByOrderIdIn for items
+    @EntityGraph(attributePaths = "table")
     List<Order> findByRestaurantIdAndStatusOrderByCreatedAtDesc(UUID restaurantId, OrderStatus status);
 
     List<Order> findByRestaurantIdAndCreatedAtBetween(UUID restaurantId, LocalDateTime start, LocalDateTime end);
 
+    @EntityGraph(attributePaths = "table")
     List<Order> findByRestaurantIdOrderByCreatedAtDesc(UUID restaurantId);
 
-    // For auto-incrementing order number per day
+    // Keyset pagination, newest first. First pages start at the top of the index...
+    @EntityGraph(attributePaths = "table")
+    List<Order> findByRestaurantIdOrderByCreatedAtDescIdDesc(UUID restaurantId, Limit limit);
+
+    @EntityGraph(attributePaths = "table")
+    List<Order> findByRestaurantIdAndStatusOrderByCreatedAtDescIdDesc(UUID restaurantId, OrderStatus status,
+            Limit limit);
+
+    // ...and later pages seek past the last (createdAt, id) returned, so no page scans the rows before it
+    @EntityGraph(attributePaths = "table")
+    @Query("SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findNextPage(@Param("restaurantId") UUID restaurantId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Limit limit);
+
+    @EntityGraph(attributePaths = "table")
+    @Query("SELECT o FROM Order o WHERE o.restaurant.id = :restaurantId AND o.status = :status "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findNextPageByStatus(@Param("restaurantId") UUID restaurantId, @Param("status") OrderStatus status,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    // Kitchen board loads: open orders, oldest first, with their table and items in the same query
+    @EntityGraph(attributePaths = { "table", "items" })
+    List<Order> findByRestaurantIdAndStatusNotInOrderByCreatedAtAsc(UUID restaurantId,
+            Collection<OrderStatus> statuses);
+
+    @EntityGraph(attributePaths = { "table", "items" })
+    List<Order> findByStatusNotInOrderByCreatedAtAsc(Collection<OrderStatus> statuses);
+
+    // Orders touched by a bulk item update, read back with their table and items
+    @EntityGraph(attributePaths = { "table", "items" })
+    List<Order> findByIdIn(Collection<UUID> ids);
+
+    // Dashboard rebuilds: the state of every order in the range, from idx_order_restaurant_created
+    @Query("SELECT new com.restaurantos.modules.order.repository.OrderTally(o.id, o.createdAt, o.status, "
+            + "o.totalAmount) FROM Order o WHERE o.restaurant.id = :restaurantId "
+            + "AND o.createdAt BETWEEN :start AND :end")
+    List<OrderTally> findTallies(@Param("restaurantId") UUID restaurantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    boolean existsByRestaurantIdAndCreatedAtBetween(UUID restaurantId, LocalDateTime start, LocalDateTime end);
+
+    // Orders placed since the given instant, e.g. today's volume
     long countByRestaurantIdAndCreatedAtAfter(UUID restaurantId, LocalDateTime startOfDay);
+
+    // Orders still in progress across all restaurants, grouped by the restaurant's plan. Filtering on the open
+    // statuses (rather than NOT IN the closed ones) lets this read only their ranges of idx_order_status_created.
+    @Query("SELECT new com.restaurantos.modules.order.repository.PlanOrderCount(r.plan, COUNT(o)) "
+            + "FROM Order o JOIN o.restaurant r WHERE o.status IN :open GROUP BY r.plan")
+    List<PlanOrderCount> countByPlanAndStatusIn(@Param("open") Collection<OrderStatus> open);
+
+    // One statement for a restaurant's day: completed revenue and count and distinct customers in one pass over
+    // the orders, customers with no earlier order at the restaurant (hot or archived), and the average item
+    // preparation time
+    @Query("SELECT new com.restaurantos.modules.order.repository.DailyOrderTotals("
+            + "COALESCE(SUM(CASE WHEN o.status = :completed THEN o.totalAmount ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN o.status = :completed THEN 1 ELSE 0 END), 0), "
+            + "COUNT(DISTINCT o.customerPhone), "
+            + "(SELECT COUNT(DISTINCT n.customerPhone) FROM Order n WHERE n.restaurant.id = :restaurantId "
+            + "AND n.createdAt BETWEEN :start AND :end AND NOT EXISTS (SELECT 1 FROM Order p "
+            + "WHERE p.restaurant.id = :restaurantId AND p.customerPhone = n.customerPhone "
+            + "AND p.createdAt < :start) AND NOT EXISTS (SELECT 1 FROM ArchivedOrder a "
+            + "WHERE a.restaurantId = :restaurantId AND a.customerPhone = n.customerPhone "
+            + "AND a.createdAt < :start)), "
+            + "(SELECT AVG((i.readyAt - i.startedPreparingAt) by second) FROM OrderItem i JOIN i.order io "
+            + "WHERE io.restaurant.id = :restaurantId AND io.createdAt BETWEEN :start AND :end "
+            + "AND i.startedPreparingAt IS NOT NULL AND i.readyAt IS NOT NULL), "
+            + "(SELECT COUNT(i) FROM OrderItem i JOIN i.order io "
+            + "WHERE io.restaurant.id = :restaurantId AND io.createdAt BETWEEN :start AND :end "
+            + "AND i.startedPreparingAt IS NOT NULL AND i.readyAt IS NOT NULL)) "
+            + "FROM Order o WHERE o.restaurant.id = :restaurantId AND o.createdAt BETWEEN :start AND :end")
+    DailyOrderTotals summarizeDay(@Param("restaurantId") UUID restaurantId,
+            @Param("completed") OrderStatus completed, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // Customers of a day that is partly archived, merged with ArchivedOrderRepository's by the report: everyone who
+    // ordered, and those with no earlier order at the restaurant in either table
+    @Query("SELECT DISTINCT o.customerPhone FROM Order o WHERE o.restaurant.id = :restaurantId "
+            + "AND o.createdAt BETWEEN :start AND :end AND o.customerPhone IS NOT NULL")
+    List<String> findCustomerPhones(@Param("restaurantId") UUID restaurantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query("SELECT DISTINCT n.customerPhone FROM Order n WHERE n.restaurant.id = :restaurantId "
+            + "AND n.createdAt BETWEEN :start AND :end AND n.customerPhone IS NOT NULL AND NOT EXISTS (SELECT 1 "
+            + "FROM Order p WHERE p.restaurant.id = :restaurantId AND p.customerPhone = n.customerPhone "
+            + "AND p.createdAt < :start) AND NOT EXISTS (SELECT 1 FROM ArchivedOrder a "
+            + "WHERE a.restaurantId = :restaurantId AND a.customerPhone = n.customerPhone "
+            + "AND a.createdAt < :start)")
+    List<String> findNewCustomerPhones(@Param("restaurantId") UUID restaurantId,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Orders of one status past the archive horizon, oldest first: a single
+    // range read of the V6 migration index, sorted without a filesort
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.createdAt < :before ORDER BY o.createdAt")
+    List<UUID> findIdsToArchive(@Param("status") OrderStatus status, @Param("before") LocalDateTime before,
+            Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,37 @@
+package com.restaurantos.modules.order.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.restaurantos.modules.order.entity.OrderSequence;
+
+@Repository
+public interface OrderSequenceRepository extends JpaRepository<OrderSequence, UUID> {
+
+    boolean existsByRestaurantId(UUID restaurantId);
+
+    /**
+     * Atomically advances the restaurant's counter, restarting at 1 on a new day.
+     * The row stays locked until the surrounding transaction ends, so concurrent
+     * callers are serialized by the database. {@code lastNumber} is assigned
+     * before {@code sequenceDate} because MySQL evaluates SET items left to right.
+     *
+     * @return the number of rows updated, 0 if the restaurant has no counter yet
+     */
+    @Modifying
+    @Query("UPDATE OrderSequence s SET "
+            + "s.lastNumber = CASE WHEN s.sequenceDate = :today THEN s.lastNumber + 1 ELSE 1 END, "
+            + "s.sequenceDate = :today "
+            + "WHERE s.restaurant.id = :restaurantId")
+    int increment(@Param("restaurantId") UUID restaurantId, @Param("today") LocalDate today);
+
+    @Query("SELECT s.lastNumber FROM OrderSequence s WHERE s.restaurant.id = :restaurantId")
+    Optional<Integer> findLastNumber(@Param("restaurantId") UUID restaurantId);
+}
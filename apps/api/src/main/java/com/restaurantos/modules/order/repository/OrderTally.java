@@ -0,0 +1,13 @@
+package com.restaurantos.modules.order.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.restaurantos.modules.order.entity.OrderStatus;
+
+/**
+ * Projection of the order fields the dashboard counters are derived from.
+ */
+public record OrderTally(UUID id, LocalDateTime createdAt, OrderStatus status, BigDecimal totalAmount) {
+}
@@ -0,0 +1,9 @@
+package com.restaurantos.modules.order.repository;
+
+import com.restaurantos.modules.restaurant.entity.SubscriptionPlan;
+
+/**
+ * Projection of the number of orders belonging to restaurants on one plan.
+ */
+public record PlanOrderCount(SubscriptionPlan plan, Long count) {
+}
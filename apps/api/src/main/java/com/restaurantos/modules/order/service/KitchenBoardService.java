@@ -0,0 +1,29 @@
+package com.restaurantos.modules.order.service;
+
+import java.util.UUID;
+
+import com.restaurantos.modules.order.dto.response.KitchenBoardDeltaResponse;
+import com.restaurantos.modules.order.dto.response.KitchenBoardResponse;
+
+/**
+ * Service for the kitchen display board of a restaurant.
+ */
+public interface KitchenBoardService {
+
+    /**
+     * Gets all open orders of a restaurant with their item statuses.
+     * 
+     * @param restaurantId the restaurant ID
+     * @return the board snapshot and its version
+     */
+    KitchenBoardResponse getBoard(UUID restaurantId);
+
+    /**
+     * Gets the changes to a restaurant's board after a given version.
+     * 
+     * @param restaurantId the restaurant ID
+     * @param since        the last version the client has applied
+     * @return the changes, or a resync request if they are no longer kept
+     */
+    KitchenBoardDeltaResponse getChanges(UUID restaurantId, long since);
+}
@@ -0,0 +1,55 @@
+package com.restaurantos.modules.order.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.shared.dto.KeysetCursor;
+
+/**
+ * Service for the order archive: closed orders past the archive horizon are
+ * moved out of the hot order tables, and read back from here when a read
+ * path reaches them.
+ */
+public interface OrderArchiveService {
+
+    /**
+     * Moves completed and cancelled orders created before
+     * {@link #archivedBefore()} to the archive, in throttled batches. This is
+     * intended to be called by a scheduled job.
+     */
+    void archiveClosedOrders();
+
+    /**
+     * Gets the time before which an order may have been archived. Orders
+     * created later are always in the hot tables.
+     * 
+     * @return the start of the oldest day kept in the hot tables
+     */
+    LocalDateTime archivedBefore();
+
+    /**
+     * Gets an archived order with its items.
+     * 
+     * @param id the order ID
+     * @return the order, detached and read-only, or empty if it is not archived
+     */
+    Optional<Order> findById(UUID id);
+
+    /**
+     * Gets a page of a restaurant's archived orders, newest first, in the same
+     * keyset order as the hot order pages.
+     * 
+     * @param restaurantId the restaurant ID
+     * @param status       the status to filter by, or null for all
+     * @param after        the position to continue after, or null for the newest
+     * @param limit        the maximum number of orders
+     * @return the orders with their table and items, detached and read-only
+     */
+    List<Order> findPage(UUID restaurantId, OrderStatus status, KeysetCursor after, Limit limit);
+}
@@ -1,8 +1,11 @@
 package com.restaurantos.modules.order.service;
 
+import java.util.List;
 import java.util.UUID;
 
+import com.restaurantos.modules.order.dto.request.BulkUpdateOrderItemStatusRequest;
 import com.restaurantos.modules.order.dto.request.UpdateOrderItemStatusRequest;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
 import com.restaurantos.modules.order.dto.response.OrderResponse.OrderItemResponse;
 
 /**
@@ -11,4 +14,15 @@ import com.restaurantos.modules.order.dto.response.OrderResponse.OrderItemRespon
 public interface OrderItemService {
 
     OrderItemResponse updateStatus(UUID id, UpdateOrderItemStatusRequest request);
+
+    /**
+     * Moves many items of a restaurant to one status in a single transaction.
+     * Orders still in the kitchen whose items are then all ready move to
+     * READY themselves.
+     *
+     * @param restaurantId the restaurant the items belong to
+     * @param request      the items and their new status
+     * @return the orders the items belong to, after the update
+     */
+    List<OrderResponse> updateStatuses(UUID restaurantId, BulkUpdateOrderItemStatusRequest request);
 }
@@ -0,0 +1,19 @@
+package com.restaurantos.modules.order.service;
+
+import java.util.UUID;
+
+/**
+ * Allocates human-readable order numbers of the form {@code yyMMddNNNN}.
+ */
+public interface OrderNumberService {
+
+    /**
+     * Allocates the next order number for a restaurant. Must be called inside
+     * the transaction that persists the order: the number is released again
+     * if that transaction rolls back.
+     *
+     * @param restaurantId the restaurant ID
+     * @return the allocated order number, unique per restaurant and day
+     */
+    String nextOrderNumber(UUID restaurantId);
+}
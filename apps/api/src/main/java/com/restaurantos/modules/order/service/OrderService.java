@@ -1,19 +1,26 @@
 package com.restaurantos.modules.order.service;
 
-import java.util.List;
 import java.util.UUID;
 
 import com.restaurantos.modules.order.dto.request.CreateOrderRequest;
 import com.restaurantos.modules.order.dto.request.UpdateOrderStatusRequest;
 import com.restaurantos.modules.order.dto.response.OrderResponse;
 import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.shared.dto.CursorPage;
 
 /**
  * Service interface for order management.
  */
 public interface OrderService {
 
-    List<OrderResponse> getAll(UUID restaurantId, OrderStatus status);
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Returns one page of orders, newest first. {@code cursor} is the
+     * {@code nextCursor} of the previous page, or null for the first page;
+     * {@code size} is capped at {@value #MAX_PAGE_SIZE}.
+     */
+    CursorPage<OrderResponse> getPage(UUID restaurantId, OrderStatus status, String cursor, int size);
 
     OrderResponse getById(UUID id);
 
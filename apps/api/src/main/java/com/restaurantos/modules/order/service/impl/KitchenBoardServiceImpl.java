@@ -0,0 +1,35 @@
+package com.restaurantos.modules.order.service.impl;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.restaurantos.modules.order.dto.response.KitchenBoardDeltaResponse;
+import com.restaurantos.modules.order.dto.response.KitchenBoardResponse;
+import com.restaurantos.modules.order.service.KitchenBoardService;
+import com.restaurantos.modules.order.store.KitchenBoardStore;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of KitchenBoardService backed by the in-memory
+ * {@link KitchenBoardStore}.
+ */
+@Service
+@Timed(value = "restaurantos.service", histogram = true)
+@RequiredArgsConstructor
+public class KitchenBoardServiceImpl implements KitchenBoardService {
+
+    private final KitchenBoardStore boardStore;
+
+    @Override
+    public KitchenBoardResponse getBoard(UUID restaurantId) {
+        return boardStore.getSnapshot(restaurantId);
+    }
+
+    @Override
+    public KitchenBoardDeltaResponse getChanges(UUID restaurantId, long since) {
+        return boardStore.getDeltas(restaurantId, since);
+    }
+}
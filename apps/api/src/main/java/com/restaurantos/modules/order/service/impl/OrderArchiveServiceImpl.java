@@ -0,0 +1,240 @@
+package com.restaurantos.modules.order.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.restaurantos.modules.order.entity.ArchivedOrder;
+import com.restaurantos.modules.order.entity.ArchivedOrderItem;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.repository.ArchivedOrderItemRepository;
+import com.restaurantos.modules.order.repository.ArchivedOrderRepository;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.service.OrderArchiveService;
+import com.restaurantos.shared.dto.KeysetCursor;
+import com.restaurantos.shared.lease.JobLease;
+import com.restaurantos.shared.lease.JobLeaseRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Archive tables implementation of OrderArchiveService. Each batch copies the
+ * oldest orders of one closed status and their items into {@code orders_archive} and
+ * {@code order_items_archive} and deletes them from the hot tables in one
+ * transaction, so an order is always in exactly one of the two. Batches are
+ * kept small and spaced out so that the job never holds many row locks or
+ * floods the replicas while the restaurants are open.
+ *
+ * <p>A run holds the {@code order-archive} {@link JobLease}, renewed with
+ * every batch, so only one node archives at a time. Open orders stay in the
+ * hot tables, so a day past the horizon may be split between the two.
+ */
+@Service
+@Timed(value = "restaurantos.service", histogram = true)
+@Slf4j
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private static final Set<OrderStatus> CLOSED = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+    // Live reports (top dishes, dashboard) look back a month at most and only read the hot tables
+    private static final int MIN_HORIZON_DAYS = 32;
+    private static final String LEASE = "order-archive";
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderItemRepository archivedOrderItemRepository;
+    private final JobLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int horizonDays;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration lease;
+    // Identifies this node as the holder of the lease
+    private final String owner = UUID.randomUUID().toString();
+
+    // A slow run must not overlap the next trigger and move the same orders twice
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public OrderArchiveServiceImpl(OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            ArchivedOrderRepository archivedOrderRepository,
+            ArchivedOrderItemRepository archivedOrderItemRepository,
+            JobLeaseRepository leaseRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.orders.archive.horizon-days:90}") int horizonDays,
+            @Value("${app.orders.archive.batch-size:500}") int batchSize,
+            @Value("${app.orders.archive.pause-ms:200}") long pauseMillis,
+            @Value("${app.orders.archive.lease-seconds:300}") long leaseSeconds) {
+        if (horizonDays < MIN_HORIZON_DAYS) {
+            throw new IllegalArgumentException(
+                    "app.orders.archive.horizon-days must be at least " + MIN_HORIZON_DAYS + ": " + horizonDays);
+        }
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderItemRepository = archivedOrderItemRepository;
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.pause = Duration.ofMillis(pauseMillis);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Override
+    @Scheduled(cron = "${app.orders.archive.cron:0 30 2 * * *}") // Runs at 2:30 AM every day by default
+    public void archiveClosedOrders() {
+        if (!runLock.tryLock()) {
+            log.info("Order archiving already in progress, skipping");
+            return;
+        }
+        try {
+            if (!acquireLease()) {
+                log.info("Orders are being archived by another node, skipping");
+                return;
+            }
+            try {
+                archiveUnderLease();
+            } finally {
+                transactionTemplate.executeWithoutResult(tx -> leaseRepository.release(LEASE, owner,
+                        LocalDateTime.now()));
+            }
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    @Override
+    public LocalDateTime archivedBefore() {
+        return LocalDate.now().minusDays(horizonDays).atStartOfDay();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> findById(UUID id) {
+        return archivedOrderRepository.findById(id)
+                .map(order -> order.toOrder(archivedOrderItemRepository.findByOrderIdIn(List.of(id))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findPage(UUID restaurantId, OrderStatus status, KeysetCursor after, Limit limit) {
+        List<ArchivedOrder> orders;
+        if (after == null) {
+            orders = status != null
+                    ? archivedOrderRepository.findByRestaurantIdAndStatusOrderByCreatedAtDescIdDesc(restaurantId,
+                            status, limit)
+                    : archivedOrderRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(restaurantId, limit);
+        } else {
+            orders = status != null
+                    ? archivedOrderRepository.findNextPageByStatus(restaurantId, status, after.createdAt(),
+                            after.id(), limit)
+                    : archivedOrderRepository.findNextPage(restaurantId, after.createdAt(), after.id(), limit);
+        }
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<ArchivedOrderItem>> itemsByOrder = archivedOrderItemRepository.findByOrderIdIn(
+                orders.stream().map(ArchivedOrder::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ArchivedOrderItem::getOrderId));
+        return orders.stream()
+                .map(order -> order.toOrder(itemsByOrder.getOrDefault(order.getId(), List.of())))
+                .toList();
+    }
+
+    private void archiveUnderLease() {
+        LocalDateTime before = archivedBefore();
+        int total = 0;
+        // One status at a time, so each batch is a plain range read of (status, created_at)
+        for (OrderStatus status : CLOSED) {
+            int moved;
+            do {
+                try {
+                    // The lease is renewed in the batch's transaction, so a batch only commits while this node holds it
+                    moved = transactionTemplate.execute(tx -> renewLease() ? archiveBatch(status, before) : -1);
+                } catch (DuplicateKeyException e) {
+                    // Only possible if the lease lapsed mid-batch and another node copied the same orders
+                    log.warn("Archived orders were copied by another node, stopping after {}", total, e);
+                    return;
+                }
+                if (moved < 0) {
+                    log.warn("Order archive lease was taken over by another node, stopping after {}", total);
+                    return;
+                }
+                total += moved;
+            } while (moved == batchSize && pauseBetweenBatches());
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        log.info("Archived {} closed orders created before {}", total, before);
+    }
+
+    private boolean acquireLease() {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(tx -> renewLease()))) {
+            return true;
+        }
+        try {
+            // The first run anywhere creates the lease; the unique name lets only one node do so
+            leaseRepository.saveAndFlush(JobLease.builder()
+                    .name(LEASE)
+                    .owner(owner)
+                    .leasedUntil(LocalDateTime.now().plus(lease))
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // The lease exists and is held by another node
+            return false;
+        }
+    }
+
+    private boolean renewLease() {
+        LocalDateTime now = LocalDateTime.now();
+        return leaseRepository.claim(LEASE, owner, now, now.plus(lease)) == 1;
+    }
+
+    private int archiveBatch(OrderStatus status, LocalDateTime before) {
+        List<UUID> ids = orderRepository.findIdsToArchive(status, before, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedOrderRepository.copyFrom(ids);
+        archivedOrderItemRepository.copyFrom(ids);
+        orderItemRepository.deleteByOrderIdIn(ids);
+        orderRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Order archiving interrupted, the next run continues where it stopped");
+            return false;
+        }
+    }
+}
@@ -1,28 +1,53 @@
 package com.restaurantos.modules.order.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.restaurantos.modules.order.dto.request.BulkUpdateOrderItemStatusRequest;
 import com.restaurantos.modules.order.dto.request.UpdateOrderItemStatusRequest;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
 import com.restaurantos.modules.order.dto.response.OrderResponse.OrderItemResponse;
+import com.restaurantos.modules.order.entity.Order;
 import com.restaurantos.modules.order.entity.OrderItem;
 import com.restaurantos.modules.order.entity.OrderItemStatus;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderItemStatusChangedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
 import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
 import com.restaurantos.modules.order.service.OrderItemService;
 import com.restaurantos.shared.exception.ResourceNotFoundException;
 import com.restaurantos.shared.websocket.WebSocketService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "restaurantos.service", histogram = true)
 @RequiredArgsConstructor
 public class OrderItemServiceImpl implements OrderItemService {
 
+    // Orders the kitchen is still working on; anything later is left alone by the roll-up
+    private static final Set<OrderStatus> IN_KITCHEN = EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED,
+            OrderStatus.PREPARING);
+    private static final Set<OrderItemStatus> DONE = EnumSet.of(OrderItemStatus.READY, OrderItemStatus.SERVED);
+
     private final OrderItemRepository orderItemRepository;
+    private final OrderRepository orderRepository;
     private final WebSocketService webSocketService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -33,7 +58,7 @@ public class OrderItemServiceImpl implements OrderItemService {
         OrderItemStatus newStatus = request.getStatus();
 
         if (item.getStatus() == newStatus)
-            return mapToResponse(item);
+            return OrderItemResponse.from(item);
 
         item.setStatus(newStatus);
 
@@ -46,10 +71,12 @@ public class OrderItemServiceImpl implements OrderItemService {
         }
 
         OrderItem savedItem = orderItemRepository.save(item);
-        OrderItemResponse response = mapToResponse(savedItem);
+        OrderItemResponse response = OrderItemResponse.from(savedItem);
 
-        // Broadcast to order, kitchen and dashboard
         UUID restaurantId = item.getOrder().getRestaurant().getId();
+        eventPublisher.publishEvent(new OrderItemStatusChangedEvent(restaurantId, item.getOrder().getId(), response));
+
+        // Broadcast to order, kitchen and dashboard
         webSocketService.broadcastToOrder(item.getOrder().getId(), response);
         webSocketService.broadcastToKitchen(restaurantId, response);
         webSocketService.broadcastToDashboard(restaurantId, response);
@@ -57,16 +84,71 @@ public class OrderItemServiceImpl implements OrderItemService {
         return response;
     }
 
-    private OrderItemResponse mapToResponse(OrderItem item) {
-        return OrderItemResponse.builder()
-                .id(item.getId())
-                .menuItemId(item.getMenuItem() != null ? item.getMenuItem().getId() : null)
-                .itemName(item.getItemName())
-                .unitPrice(item.getUnitPrice())
-                .quantity(item.getQuantity())
-                .subtotal(item.getSubtotal())
-                .status(item.getStatus())
-                .specialInstructions(item.getSpecialInstructions())
-                .build();
+    @Override
+    @Transactional
+    public List<OrderResponse> updateStatuses(UUID restaurantId, BulkUpdateOrderItemStatusRequest request) {
+        Set<UUID> ids = new LinkedHashSet<>(request.getItemIds());
+        List<OrderItem> items = orderItemRepository.findByIdInAndOrderRestaurantId(ids, restaurantId);
+        if (items.size() != ids.size()) {
+            Set<UUID> found = items.stream().map(OrderItem::getId).collect(Collectors.toSet());
+            UUID missing = ids.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new ResourceNotFoundException("Order item not found: " + missing);
+        }
+
+        OrderItemStatus newStatus = request.getStatus();
+        Set<UUID> changedIds = items.stream()
+                .filter(item -> item.getStatus() != newStatus)
+                .map(OrderItem::getId)
+                .collect(Collectors.toSet());
+        Set<UUID> orderIds = items.stream()
+                .map(item -> item.getOrder().getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (!changedIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            orderItemRepository.updateStatuses(changedIds, newStatus,
+                    newStatus == OrderItemStatus.PREPARING ? now : null,
+                    newStatus == OrderItemStatus.READY ? now : null,
+                    newStatus == OrderItemStatus.SERVED ? now : null,
+                    now);
+        }
+
+        // The bulk update cleared the persistence context, so orders and items are read back as written
+        Map<UUID, Order> orders = orderRepository.findByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<OrderResponse> responses = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            Order order = orders.get(orderId);
+            OrderStatus previousStatus = order.getStatus();
+            boolean rolledUp = !changedIds.isEmpty() && IN_KITCHEN.contains(previousStatus)
+                    && order.getItems().stream().allMatch(item -> DONE.contains(item.getStatus()));
+            if (rolledUp) {
+                order.setStatus(OrderStatus.READY);
+                order = orderRepository.save(order);
+            }
+
+            OrderResponse response = OrderResponse.from(order);
+            responses.add(response);
+            response.getItems().stream()
+                    .filter(item -> changedIds.contains(item.getId()))
+                    .forEach(item -> eventPublisher.publishEvent(
+                            new OrderItemStatusChangedEvent(restaurantId, orderId, item)));
+            if (rolledUp) {
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(restaurantId, previousStatus, response));
+            }
+        }
+
+        if (!changedIds.isEmpty()) {
+            // One message per affected order in the payload subscribers already expect, instead of three per
+            // item; the dispatcher coalesces repeats of the same order within a flush
+            for (OrderResponse response : responses) {
+                webSocketService.broadcastToOrder(response.getId(), response);
+                webSocketService.broadcastToKitchen(restaurantId, response);
+                webSocketService.broadcastToDashboard(restaurantId, response);
+            }
+        }
+
+        return responses;
     }
 }
@@ -0,0 +1,91 @@
+package com.restaurantos.modules.order.service.impl;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.restaurantos.modules.order.entity.OrderSequence;
+import com.restaurantos.modules.order.repository.OrderSequenceRepository;
+import com.restaurantos.modules.order.service.OrderNumberService;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counter-table based implementation. Each allocation is a single-row atomic
+ * update followed by a primary-key read, so the cost does not depend on how
+ * many orders were already placed today.
+ */
+@Service
+@Slf4j
+public class OrderNumberServiceImpl implements OrderNumberService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private final OrderSequenceRepository sequenceRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final Set<UUID> knownSequences = ConcurrentHashMap.newKeySet();
+
+    public OrderNumberServiceImpl(OrderSequenceRepository sequenceRepository,
+            RestaurantRepository restaurantRepository,
+            PlatformTransactionManager transactionManager) {
+        this.sequenceRepository = sequenceRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String nextOrderNumber(UUID restaurantId) {
+        LocalDate today = LocalDate.now();
+
+        // Plain read first: an UPDATE that matches nothing would take a gap lock
+        // on MySQL and block the insert below.
+        if (!knownSequences.contains(restaurantId)) {
+            if (!sequenceRepository.existsByRestaurantId(restaurantId)) {
+                createSequence(restaurantId, today);
+            }
+            knownSequences.add(restaurantId);
+        }
+
+        if (sequenceRepository.increment(restaurantId, today) == 0) {
+            knownSequences.remove(restaurantId);
+            throw new IllegalStateException("Order sequence missing for restaurant: " + restaurantId);
+        }
+
+        int number = sequenceRepository.findLastNumber(restaurantId)
+                .orElseThrow(() -> new IllegalStateException("Order sequence missing for restaurant: " + restaurantId));
+        return today.format(DATE_FORMATTER) + String.format("%04d", number);
+    }
+
+    /**
+     * Creates the counter row in its own short transaction so that it is
+     * visible to every concurrent allocator immediately. Losing the insert
+     * race to another transaction or node is expected and ignored.
+     */
+    private void createSequence(UUID restaurantId, LocalDate today) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> sequenceRepository.saveAndFlush(
+                    OrderSequence.builder()
+                            .restaurant(restaurantRepository.getReferenceById(restaurantId))
+                            .sequenceDate(today)
+                            .lastNumber(0)
+                            .build()));
+            log.info("Created order sequence for restaurant {}", restaurantId);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Order sequence for restaurant {} was created concurrently", restaurantId);
+        }
+    }
+}
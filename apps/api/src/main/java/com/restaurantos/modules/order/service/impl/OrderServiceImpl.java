@@ -1,17 +1,22 @@
 package com.restaurantos.modules.order.service.impl;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.restaurantos.modules.menu.entity.MenuItem;
 import com.restaurantos.modules.menu.repository.MenuItemRepository;
@@ -24,49 +29,101 @@ import com.restaurantos.modules.order.entity.OrderItemStatus;
 import com.restaurantos.modules.order.entity.OrderStatus;
 import com.restaurantos.modules.order.entity.PaymentStatus;
 import com.restaurantos.modules.order.event.OrderCompletedEvent;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderDeletedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
 import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.service.OrderArchiveService;
+import com.restaurantos.modules.order.service.OrderNumberService;
 import com.restaurantos.modules.order.service.OrderService;
 import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.modules.table.entity.RestaurantTable;
 import com.restaurantos.modules.table.repository.TableRepository;
+import com.restaurantos.shared.dto.CursorPage;
+import com.restaurantos.shared.dto.KeysetCursor;
 import com.restaurantos.shared.exception.ResourceNotFoundException;
+import com.restaurantos.shared.outbox.OutboxPublisher;
 import com.restaurantos.shared.websocket.WebSocketService;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Timed(value = "restaurantos.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class OrderServiceImpl implements OrderService {
 
+    // Keyset page order: (createdAt, id) descending
+    private static final Comparator<Order> NEWEST_FIRST = Comparator.comparing(Order::getCreatedAt)
+            .thenComparing(Order::getId)
+            .reversed();
+
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final RestaurantRepository restaurantRepository;
     private final TableRepository tableRepository;
     private final MenuItemRepository menuItemRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxPublisher outboxPublisher;
     private final WebSocketService webSocketService;
-
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+    private final OrderNumberService orderNumberService;
+    private final OrderArchiveService orderArchiveService;
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponse> getAll(UUID restaurantId, OrderStatus status) {
+    public CursorPage<OrderResponse> getPage(UUID restaurantId, OrderStatus status, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // One extra row tells whether another page exists without a COUNT
+        Limit limit = Limit.of(pageSize + 1);
+
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
         List<Order> orders;
-        if (status != null) {
-            orders = orderRepository.findByRestaurantIdAndStatusOrderByCreatedAtDesc(restaurantId, status);
+        if (after == null) {
+            orders = status != null
+                    ? orderRepository.findByRestaurantIdAndStatusOrderByCreatedAtDescIdDesc(restaurantId, status, limit)
+                    : orderRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(restaurantId, limit);
         } else {
-            orders = orderRepository.findByRestaurantIdOrderByCreatedAtDesc(restaurantId);
+            orders = status != null
+                    ? orderRepository.findNextPageByStatus(restaurantId, status, after.createdAt(), after.id(), limit)
+                    : orderRepository.findNextPage(restaurantId, after.createdAt(), after.id(), limit);
         }
-        return orders.stream().map(this::mapToResponse).collect(Collectors.toList());
+
+        // Once the page runs out of hot orders or reaches the archive horizon, older orders may be archived:
+        // the same keyset query there, merged with the hot rows, keeps the order exact across both
+        if (orders.size() < limit.max()
+                || orders.get(orders.size() - 1).getCreatedAt().isBefore(orderArchiveService.archivedBefore())) {
+            List<Order> archived = orderArchiveService.findPage(restaurantId, status, after, limit);
+            if (!archived.isEmpty()) {
+                orders = Stream.concat(orders.stream(), archived.stream())
+                        .sorted(NEWEST_FIRST)
+                        .limit(limit.max())
+                        .toList();
+            }
+        }
+
+        boolean hasMore = orders.size() > pageSize;
+        if (hasMore) {
+            orders = orders.subList(0, pageSize);
+        }
+        Order last = hasMore ? orders.get(orders.size() - 1) : null;
+
+        return CursorPage.<OrderResponse>builder()
+                .items(mapToResponses(orders))
+                .nextCursor(last != null ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public OrderResponse getById(UUID id) {
         return orderRepository.findById(id)
-                .map(this::mapToResponse)
+                .or(() -> orderArchiveService.findById(id))
+                .map(OrderResponse::from)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
     }
 
@@ -82,12 +139,9 @@ public class OrderServiceImpl implements OrderService {
                     .orElseThrow(() -> new ResourceNotFoundException("Table not found"));
         }
 
-        String orderNumber = generateOrderNumber(restaurantId);
-
         Order order = Order.builder()
                 .restaurant(restaurant)
                 .table(table)
-                .orderNumber(orderNumber)
                 .customerName(request.getCustomerName())
                 .customerPhone(request.getCustomerPhone())
                 .specialInstructions(request.getSpecialInstructions())
@@ -98,11 +152,11 @@ public class OrderServiceImpl implements OrderService {
                 .totalAmount(BigDecimal.ZERO)
                 .build();
 
+        Map<UUID, MenuItem> menuItems = loadMenuItems(restaurantId, request.getItems());
+
         BigDecimal subtotal = BigDecimal.ZERO;
         for (CreateOrderRequest.OrderItemRequest itemReq : request.getItems()) {
-            MenuItem menuItem = menuItemRepository.findById(itemReq.getMenuItemId())
-                    .orElseThrow(
-                            () -> new ResourceNotFoundException("Menu item not found: " + itemReq.getMenuItemId()));
+            MenuItem menuItem = menuItems.get(itemReq.getMenuItemId());
 
             BigDecimal itemSubtotal = menuItem.getPrice().multiply(BigDecimal.valueOf(itemReq.getQuantity()));
 
@@ -124,8 +178,12 @@ public class OrderServiceImpl implements OrderService {
         order.setSubtotal(subtotal);
         order.setTotalAmount(subtotal.add(order.getTaxAmount()).subtract(order.getDiscountAmount()));
 
+        // Allocated last: the counter row stays locked until this transaction commits
+        order.setOrderNumber(orderNumberService.nextOrderNumber(restaurantId));
+
         Order savedOrder = orderRepository.save(order);
-        OrderResponse response = mapToResponse(savedOrder);
+        OrderResponse response = OrderResponse.from(savedOrder);
+        eventPublisher.publishEvent(new OrderCreatedEvent(restaurantId, response));
 
         // Broadcast to kitchen and dashboard
         webSocketService.broadcastToKitchen(restaurantId, response);
@@ -144,7 +202,7 @@ public class OrderServiceImpl implements OrderService {
         OrderStatus newStatus = request.getStatus();
 
         if (oldStatus == newStatus)
-            return mapToResponse(order);
+            return OrderResponse.from(order);
 
         order.setStatus(newStatus);
 
@@ -155,14 +213,16 @@ public class OrderServiceImpl implements OrderService {
             order.setPaymentStatus(PaymentStatus.PAID);
             order.setPaidAt(LocalDateTime.now());
 
-            // Publish event for inventory deduction
-            eventPublisher.publishEvent(new OrderCompletedEvent(order.getId(), order.getRestaurant().getId()));
+            // Inventory deduction runs from the outbox, after this transaction commits
+            outboxPublisher.publish("Order", order.getId(),
+                    new OrderCompletedEvent(order.getId(), order.getRestaurant().getId()));
         } else if (newStatus == OrderStatus.CANCELLED) {
             order.setCancelledAt(LocalDateTime.now());
         }
 
         Order savedOrder = orderRepository.save(order);
-        OrderResponse response = mapToResponse(savedOrder);
+        OrderResponse response = OrderResponse.from(savedOrder);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getRestaurant().getId(), oldStatus, response));
 
         // Broadcast status update
         webSocketService.broadcastToOrder(order.getId(), response);
@@ -185,50 +245,56 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional
     public void delete(UUID id) {
-        if (!orderRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Order not found");
-        }
-        orderRepository.deleteById(id);
-    }
-
-    private String generateOrderNumber(UUID restaurantId) {
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        long count = orderRepository.countByRestaurantIdAndCreatedAtAfter(restaurantId, startOfDay);
-        return LocalDate.now().format(DATE_FORMATTER) + String.format("%04d", count + 1);
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found"));
+        orderRepository.delete(order);
+        eventPublisher.publishEvent(new OrderDeletedEvent(order.getRestaurant().getId(), order.getId()));
     }
 
-    private OrderResponse mapToResponse(Order order) {
-        return OrderResponse.builder()
-                .id(order.getId())
-                .orderNumber(order.getOrderNumber())
-                .tableId(order.getTable() != null ? order.getTable().getId() : null)
-                .tableNumber(order.getTable() != null ? order.getTable().getTableNumber().toString() : "N/A")
-                .customerName(order.getCustomerName())
-                .customerPhone(order.getCustomerPhone())
-                .status(order.getStatus())
-                .subtotal(order.getSubtotal())
-                .discountAmount(order.getDiscountAmount())
-                .taxAmount(order.getTaxAmount())
-                .totalAmount(order.getTotalAmount())
-                .paymentMethod(order.getPaymentMethod())
-                .paymentStatus(order.getPaymentStatus())
-                .paidAt(order.getPaidAt())
-                .specialInstructions(order.getSpecialInstructions())
-                .createdAt(order.getCreatedAt())
-                .items(order.getItems().stream().map(this::mapItemToResponse).collect(Collectors.toList()))
-                .build();
+    /**
+     * Resolves every menu item referenced by the request with a single query,
+     * regardless of the number of lines. Items from other restaurants are
+     * treated as missing so an order can never reference a foreign menu.
+     */
+    private Map<UUID, MenuItem> loadMenuItems(UUID restaurantId, List<CreateOrderRequest.OrderItemRequest> items) {
+        Set<UUID> menuItemIds = items.stream()
+                .map(CreateOrderRequest.OrderItemRequest::getMenuItemId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, MenuItem> menuItems = menuItemRepository.findByRestaurantIdAndIdIn(restaurantId, menuItemIds)
+                .stream()
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+
+        for (UUID menuItemId : menuItemIds) {
+            if (!menuItems.containsKey(menuItemId)) {
+                throw new ResourceNotFoundException("Menu item not found: " + menuItemId);
+            }
+        }
+        return menuItems;
     }
 
-    private OrderResponse.OrderItemResponse mapItemToResponse(OrderItem item) {
-        return OrderResponse.OrderItemResponse.builder()
-                .id(item.getId())
-                .menuItemId(item.getMenuItem() != null ? item.getMenuItem().getId() : null)
-                .itemName(item.getItemName())
-                .unitPrice(item.getUnitPrice())
-                .quantity(item.getQuantity())
-                .subtotal(item.getSubtotal())
-                .status(item.getStatus())
-                .specialInstructions(item.getSpecialInstructions())
-                .build();
+    /**
+     * Maps a page of orders using one extra query for all of their items. The
+     * orders are expected to have their table fetched already. Orders read
+     * from the archive come with their items.
+     */
+    private List<OrderResponse> mapToResponses(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> withoutItems = orders.stream()
+                .filter(order -> !Hibernate.isInitialized(order.getItems()))
+                .map(Order::getId)
+                .toList();
+        Map<UUID, List<OrderItem>> itemsByOrder = withoutItems.isEmpty()
+                ? Map.of()
+                : orderItemRepository.findByOrderIdIn(withoutItems).stream()
+                        .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        return orders.stream()
+                .map(order -> OrderResponse.from(order, Hibernate.isInitialized(order.getItems())
+                        ? order.getItems()
+                        : itemsByOrder.getOrDefault(order.getId(), List.of())))
+                .collect(Collectors.toList());
     }
 }
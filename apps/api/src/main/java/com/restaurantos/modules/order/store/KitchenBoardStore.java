@@ -0,0 +1,402 @@
+package com.restaurantos.modules.order.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.restaurantos.modules.order.dto.response.KitchenBoardDeltaResponse;
+import com.restaurantos.modules.order.dto.response.KitchenBoardResponse;
+import com.restaurantos.modules.order.dto.response.KitchenOrderResponse;
+import com.restaurantos.modules.order.dto.response.KitchenOrderResponse.KitchenItemResponse;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderDeletedEvent;
+import com.restaurantos.modules.order.event.OrderItemStatusChangedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory, per-restaurant kitchen board: every open order with its item
+ * statuses, kept current from committed order and order item events so that
+ * a kitchen screen refresh never queries the database.
+ *
+ * <p>Boards are loaded for all restaurants with open orders at startup, and
+ * for any other restaurant on its first read. Every change gets a new,
+ * increasing version and is kept in a bounded log of the last
+ * {@code app.kitchen.board.max-deltas} changes, which clients poll with the
+ * last version they saw. A board is reloaded once it is older than
+ * {@code app.kitchen.board.rebuild-interval-minutes}, folding in changes made
+ * by other nodes; clients then have to take a new snapshot. Reads are served
+ * from memory without a transaction; only the loads open one.
+ */
+@Component
+@Slf4j
+public class KitchenBoardStore {
+
+    private static final Set<OrderStatus> CLOSED = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readOnlyTemplate;
+    private final Duration rebuildInterval;
+    private final int maxDeltas;
+
+    private final Map<UUID, KitchenBoard> boards = new ConcurrentHashMap<>();
+    // Starts at the clock so that versions keep increasing across restarts
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+
+    public KitchenBoardStore(OrderRepository orderRepository, PlatformTransactionManager transactionManager,
+            @Value("${app.kitchen.board.rebuild-interval-minutes:15}") long rebuildIntervalMinutes,
+            @Value("${app.kitchen.board.max-deltas:512}") int maxDeltas) {
+        this.orderRepository = orderRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.rebuildInterval = Duration.ofMinutes(rebuildIntervalMinutes);
+        this.maxDeltas = maxDeltas;
+    }
+
+    /**
+     * Returns the restaurant's open orders, loading the board first if it is
+     * missing or stale.
+     */
+    public KitchenBoardResponse getSnapshot(UUID restaurantId) {
+        return board(restaurantId).snapshot();
+    }
+
+    /**
+     * Returns the changes to the restaurant's board after {@code since}, or
+     * asks for a resync if they are no longer kept.
+     */
+    public KitchenBoardDeltaResponse getDeltas(UUID restaurantId, long since) {
+        return board(restaurantId).deltasSince(since);
+    }
+
+    /**
+     * Loads the boards of all restaurants with open orders in one query.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long versionBefore = versions.get();
+        Map<UUID, List<KitchenOrderResponse>> openOrders = readOnlyTemplate.execute(status -> orderRepository
+                .findByStatusNotInOrderByCreatedAtAsc(CLOSED).stream()
+                .collect(Collectors.groupingBy(order -> order.getRestaurant().getId(), LinkedHashMap::new,
+                        Collectors.mapping(KitchenBoardStore::toKitchenOrder, Collectors.toList()))));
+        openOrders.forEach((restaurantId, orders) -> boards
+                .computeIfAbsent(restaurantId, id -> new KitchenBoard(versions, maxDeltas))
+                .reload(orders, versionBefore));
+        log.info("Loaded kitchen boards for {} restaurants", openOrders.size());
+    }
+
+    /**
+     * Reloads a restaurant's board from the database.
+     */
+    public KitchenBoard rebuild(UUID restaurantId) {
+        // Registered before loading, so that events committed meanwhile are recorded and replayed
+        KitchenBoard board = boards.computeIfAbsent(restaurantId, id -> new KitchenBoard(versions, maxDeltas));
+        long versionBefore = versions.get();
+        board.reload(readOnlyTemplate.execute(status -> toKitchenOrders(
+                orderRepository.findByRestaurantIdAndStatusNotInOrderByCreatedAtAsc(restaurantId, CLOSED))),
+                versionBefore);
+        log.debug("Rebuilt kitchen board for restaurant {}", restaurantId);
+        return board;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        KitchenBoard board = boards.get(event.getRestaurantId());
+        if (board != null) {
+            board.orderChanged(event.getOrder());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        KitchenBoard board = boards.get(event.getRestaurantId());
+        if (board != null) {
+            board.orderChanged(event.getOrder());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderItemStatusChanged(OrderItemStatusChangedEvent event) {
+        KitchenBoard board = boards.get(event.getRestaurantId());
+        if (board != null) {
+            board.itemChanged(event.getOrderId(), event.getItem());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderDeleted(OrderDeletedEvent event) {
+        KitchenBoard board = boards.get(event.getRestaurantId());
+        if (board != null) {
+            board.orderRemoved(event.getOrderId());
+        }
+    }
+
+    private KitchenBoard board(UUID restaurantId) {
+        KitchenBoard board = boards.get(restaurantId);
+        if (board == null || board.isStale(rebuildInterval)) {
+            board = rebuild(restaurantId);
+        }
+        return board;
+    }
+
+    private static List<KitchenOrderResponse> toKitchenOrders(List<Order> orders) {
+        return orders.stream().map(KitchenBoardStore::toKitchenOrder).toList();
+    }
+
+    private static KitchenOrderResponse toKitchenOrder(Order order) {
+        return KitchenOrderResponse.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .tableNumber(order.getTable() != null ? order.getTable().getTableNumber().toString() : "N/A")
+                .status(order.getStatus())
+                .specialInstructions(order.getSpecialInstructions())
+                .createdAt(order.getCreatedAt())
+                .items(order.getItems().stream().map(KitchenBoardStore::toKitchenItem).toList())
+                .build();
+    }
+
+    private static KitchenItemResponse toKitchenItem(OrderItem item) {
+        return KitchenItemResponse.builder()
+                .id(item.getId())
+                .itemName(item.getItemName())
+                .quantity(item.getQuantity())
+                .status(item.getStatus())
+                .specialInstructions(item.getSpecialInstructions())
+                .build();
+    }
+
+    private static KitchenOrderResponse toKitchenOrder(OrderResponse order) {
+        return KitchenOrderResponse.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .tableNumber(order.getTableNumber())
+                .status(order.getStatus())
+                .specialInstructions(order.getSpecialInstructions())
+                .createdAt(order.getCreatedAt())
+                .items(order.getItems() != null
+                        ? order.getItems().stream().map(KitchenBoardStore::toKitchenItem).toList()
+                        : List.of())
+                .build();
+    }
+
+    private static KitchenItemResponse toKitchenItem(OrderResponse.OrderItemResponse item) {
+        return KitchenItemResponse.builder()
+                .id(item.getId())
+                .itemName(item.getItemName())
+                .quantity(item.getQuantity())
+                .status(item.getStatus())
+                .specialInstructions(item.getSpecialInstructions())
+                .build();
+    }
+
+    /**
+     * Open orders of one restaurant and the log of recent changes to them.
+     * Published {@link KitchenOrderResponse}s are never modified; a change
+     * replaces the order with a new one.
+     */
+    public static final class KitchenBoard {
+
+        private final AtomicLong versions;
+        private final int maxDeltas;
+        private final Map<UUID, KitchenOrderResponse> orders = new LinkedHashMap<>();
+        private final Deque<KitchenBoardDeltaResponse.Change> deltas = new ArrayDeque<>();
+        // Item changes to orders not on the board, e.g. while it is still loading, for reloads to replay
+        private final Deque<ItemChange> offBoardItems = new ArrayDeque<>();
+        private Instant loadedAt;
+        private long version;
+        // Clients behind either of these have missed changes
+        private long reloadedAt;
+        private long evictedUpTo;
+        private long offBoardEvictedUpTo;
+        private KitchenBoardResponse snapshot;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        KitchenBoard(AtomicLong versions, int maxDeltas) {
+            this.versions = versions;
+            this.maxDeltas = maxDeltas;
+        }
+
+        boolean isStale(Duration maxAge) {
+            lock.lock();
+            try {
+                return loadedAt == null || loadedAt.plus(maxAge).isBefore(Instant.now());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        KitchenBoardResponse snapshot() {
+            lock.lock();
+            try {
+                if (snapshot == null) {
+                    snapshot = KitchenBoardResponse.builder()
+                            .version(version)
+                            .orders(List.copyOf(orders.values()))
+                            .build();
+                }
+                return snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        KitchenBoardDeltaResponse deltasSince(long since) {
+            lock.lock();
+            try {
+                if (since < reloadedAt || since < evictedUpTo) {
+                    return KitchenBoardDeltaResponse.builder().version(version).resync(true).changes(List.of())
+                            .build();
+                }
+                List<KitchenBoardDeltaResponse.Change> changes = new ArrayList<>();
+                for (KitchenBoardDeltaResponse.Change change : deltas) {
+                    if (change.getVersion() > since) {
+                        changes.add(change);
+                    }
+                }
+                return KitchenBoardDeltaResponse.builder().version(version).changes(changes).build();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Replaces the board with orders loaded from the database, then
+         * replays the changes recorded since {@code versionBefore}, which the
+         * load may have missed.
+         */
+        void reload(List<KitchenOrderResponse> loaded, long versionBefore) {
+            lock.lock();
+            try {
+                orders.clear();
+                loaded.forEach(order -> orders.put(order.getId(), order));
+                // Both logs, in the order the changes were made
+                NavigableMap<Long, Runnable> replay = new TreeMap<>();
+                for (KitchenBoardDeltaResponse.Change change : deltas) {
+                    if (change.getVersion() > versionBefore) {
+                        replay.put(change.getVersion(), () -> apply(change.getOrderId(), change.getOrder()));
+                    }
+                }
+                for (ItemChange change : offBoardItems) {
+                    if (change.version() > versionBefore) {
+                        replay.put(change.version(), () -> applyItem(change.orderId(), change.item()));
+                    }
+                }
+                replay.values().forEach(Runnable::run);
+                version = versions.incrementAndGet();
+                reloadedAt = version;
+                // If the logs no longer reach back to the load, try again on the next read
+                loadedAt = Math.max(evictedUpTo, offBoardEvictedUpTo) > versionBefore ? null : Instant.now();
+                snapshot = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void orderChanged(OrderResponse order) {
+            record(order.getId(), CLOSED.contains(order.getStatus()) ? null : toKitchenOrder(order));
+        }
+
+        void itemChanged(UUID orderId, OrderResponse.OrderItemResponse item) {
+            lock.lock();
+            try {
+                KitchenOrderResponse order = orders.get(orderId);
+                if (order == null) {
+                    offBoardItems.addLast(new ItemChange(versions.incrementAndGet(), orderId, item));
+                    if (offBoardItems.size() > maxDeltas) {
+                        offBoardEvictedUpTo = offBoardItems.removeFirst().version();
+                    }
+                    return;
+                }
+                record(orderId, withItem(order, item));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void orderRemoved(UUID orderId) {
+            record(orderId, null);
+        }
+
+        private void record(UUID orderId, KitchenOrderResponse order) {
+            lock.lock();
+            try {
+                apply(orderId, order);
+                version = versions.incrementAndGet();
+                deltas.addLast(KitchenBoardDeltaResponse.Change.builder()
+                        .version(version)
+                        .orderId(orderId)
+                        .order(order)
+                        .build());
+                if (deltas.size() > maxDeltas) {
+                    evictedUpTo = deltas.removeFirst().getVersion();
+                }
+                snapshot = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void applyItem(UUID orderId, OrderResponse.OrderItemResponse item) {
+            KitchenOrderResponse order = orders.get(orderId);
+            if (order != null) {
+                orders.put(orderId, withItem(order, item));
+            }
+        }
+
+        private static KitchenOrderResponse withItem(KitchenOrderResponse order,
+                OrderResponse.OrderItemResponse item) {
+            List<KitchenItemResponse> items = order.getItems().stream()
+                    .map(existing -> existing.getId().equals(item.getId()) ? toKitchenItem(item) : existing)
+                    .toList();
+            return KitchenOrderResponse.builder()
+                    .id(order.getId())
+                    .orderNumber(order.getOrderNumber())
+                    .tableNumber(order.getTableNumber())
+                    .status(order.getStatus())
+                    .specialInstructions(order.getSpecialInstructions())
+                    .createdAt(order.getCreatedAt())
+                    .items(items)
+                    .build();
+        }
+
+        private void apply(UUID orderId, KitchenOrderResponse order) {
+            if (order == null) {
+                orders.remove(orderId);
+            } else {
+                // Keeps the position of an order already on the board
+                orders.put(orderId, order);
+            }
+        }
+
+        private record ItemChange(long version, UUID orderId, OrderResponse.OrderItemResponse item) {
+        }
+    }
+}
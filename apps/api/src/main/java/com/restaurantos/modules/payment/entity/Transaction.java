@@ -6,10 +6,12 @@ import com.restaurantos.modules.order.entity.Order;
 import com.restaurantos.shared.entity.BaseEntity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -37,8 +39,9 @@ import lombok.ToString;
 @ToString(exclude = "order")
 public class Transaction extends BaseEntity {
 
+    // No foreign key: the order may have moved to orders_archive (V6 migration)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Order order;
 
     @Column(nullable = false, precision = 19, scale = 2)
@@ -1,12 +1,16 @@
 package com.restaurantos.modules.restaurant.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.restaurant.entity.SubscriptionPlan;
 
 /**
  * Repository interface for {@link Restaurant} entity.
@@ -29,4 +33,21 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
      * @return true if it exists, false otherwise
      */
     Boolean existsBySlug(String slug);
+
+    /**
+     * Looks up a restaurant's subscription plan without loading the entity.
+     *
+     * @param id the restaurant id
+     * @return an Optional containing the plan if the restaurant exists
+     */
+    @Query("SELECT r.plan FROM Restaurant r WHERE r.id = :id")
+    Optional<SubscriptionPlan> findPlanById(@Param("id") UUID id);
+
+    /**
+     * Lists every restaurant id without loading the entities.
+     *
+     * @return the ids of all restaurants
+     */
+    @Query("SELECT r.id FROM Restaurant r")
+    List<UUID> findAllIds();
 }
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.restaurantos.modules.table.dto.request.TableRequest;
 import com.restaurantos.modules.table.dto.response.TableResponse;
@@ -38,8 +39,16 @@ public class TableController {
 
     private final TableService tableService;
 
+    /**
+     * Lists the restaurant's tables. Answers {@code 304 Not Modified} without
+     * loading the tables when the client's {@code If-None-Match} is current.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TableResponse>>> getAll(@PathVariable UUID restaurantId) {
+    public ResponseEntity<ApiResponse<List<TableResponse>>> getAll(@PathVariable UUID restaurantId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(tableService.getListingETag(restaurantId))) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success(tableService.getAllByRestaurant(restaurantId)));
     }
 
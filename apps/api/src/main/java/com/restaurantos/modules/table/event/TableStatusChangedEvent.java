@@ -0,0 +1,20 @@
+package com.restaurantos.modules.table.event;
+
+import java.util.UUID;
+
+import com.restaurantos.modules.table.entity.TableStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a table's status changes. {@code status} is null when
+ * the table has been deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class TableStatusChangedEvent {
+    private final UUID restaurantId;
+    private final UUID tableId;
+    private final TableStatus status;
+}
@@ -5,9 +5,13 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.modules.table.entity.TableStatus;
+import com.restaurantos.shared.dto.ListingVersion;
 
 /**
  * Data access layer for {@link RestaurantTable} entity.
@@ -39,4 +43,27 @@ public interface TableRepository extends JpaRepository<RestaurantTable, UUID> {
      * @return true if exists, false otherwise.
      */
     boolean existsByRestaurantIdAndTableNumber(UUID restaurantId, Integer tableNumber);
+
+    /**
+     * Lists the IDs of a restaurant's tables in the given status without loading
+     * the entities.
+     *
+     * @param restaurantId ID of the restaurant.
+     * @param status       Table status to match.
+     * @return IDs of the matching tables.
+     */
+    @Query("SELECT t.id FROM RestaurantTable t WHERE t.restaurant.id = :restaurantId AND t.status = :status")
+    List<UUID> findIdsByRestaurantIdAndStatus(@Param("restaurantId") UUID restaurantId,
+            @Param("status") TableStatus status);
+
+    /**
+     * Computes the fingerprint of a restaurant's table listing without loading
+     * the entities.
+     *
+     * @param restaurantId ID of the restaurant.
+     * @return Row count, latest modification time and version sum of the tables.
+     */
+    @Query("SELECT new com.restaurantos.shared.dto.ListingVersion(COUNT(t), MAX(t.updatedAt), SUM(t.version)) "
+            + "FROM RestaurantTable t WHERE t.restaurant.id = :restaurantId")
+    ListingVersion findListingVersion(@Param("restaurantId") UUID restaurantId);
 }
@@ -20,6 +20,15 @@ public interface TableService {
      */
     List<TableResponse> getAllByRestaurant(UUID restaurantId);
 
+    /**
+     * Computes an entity tag for the restaurant's table listing without loading
+     * the tables.
+     *
+     * @param restaurantId ID of the restaurant.
+     * @return Strong entity tag that changes whenever the listing does.
+     */
+    String getListingETag(UUID restaurantId);
+
     /**
      * Retrieves a single table by its ID.
      *
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,7 @@ import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.modules.table.dto.request.TableRequest;
 import com.restaurantos.modules.table.dto.response.TableResponse;
 import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.modules.table.event.TableStatusChangedEvent;
 import com.restaurantos.modules.table.repository.TableRepository;
 import com.restaurantos.modules.table.service.PDFService;
 import com.restaurantos.modules.table.service.QRCodeService;
@@ -35,6 +37,7 @@ public class TableServiceImpl implements TableService {
     private final RestaurantRepository restaurantRepository;
     private final QRCodeService qrCodeService;
     private final PDFService pdfService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -45,6 +48,12 @@ public class TableServiceImpl implements TableService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getListingETag(UUID restaurantId) {
+        return tableRepository.findListingVersion(restaurantId).toETag();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TableResponse getById(UUID id) {
@@ -98,10 +107,10 @@ public class TableServiceImpl implements TableService {
     @Override
     @Transactional
     public void delete(UUID id) {
-        if (!tableRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Table not found with id: " + id);
-        }
-        tableRepository.deleteById(id);
+        RestaurantTable table = tableRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Table not found with id: " + id));
+        tableRepository.delete(table);
+        eventPublisher.publishEvent(new TableStatusChangedEvent(table.getRestaurant().getId(), table.getId(), null));
     }
 
     @Override
@@ -0,0 +1,42 @@
+package com.restaurantos.shared.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Connection pool settings for the virtual-thread execution mode
+ * ({@code spring.threads.virtual.enabled=true}). Concurrency is then bounded
+ * by the pool instead of Tomcat's workers, so the pool is fixed-size and a
+ * request fails fast when it is exhausted rather than queueing for Hikari's
+ * default 30 seconds. In platform-thread mode the Tomcat worker pool already
+ * limits concurrency and the regular {@code spring.datasource.hikari.*}
+ * settings apply unchanged.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor virtualThreadPoolSettings(
+            @Value("${app.datasource.virtual-threads.pool-size:20}") int poolSize,
+            @Value("${app.datasource.virtual-threads.connection-timeout-ms:5000}") long connectionTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // After the spring.datasource.hikari.* binding, before the pool starts on first use
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    dataSource.setConnectionTimeout(connectionTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
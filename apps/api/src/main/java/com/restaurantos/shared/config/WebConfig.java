@@ -7,6 +7,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.restaurantos.shared.idempotency.IdempotencyFilter;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -19,6 +21,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins.toArray(new String[0]))
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(IdempotencyFilter.REPLAYED_HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -0,0 +1,24 @@
+package com.restaurantos.shared.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Fingerprint of a listing computed by an aggregate query: how many rows it
+ * has, when the most recent one was modified and the sum of their optimistic
+ * lock versions. Inserts and deletes change the count, updates bump the
+ * timestamp and the version sum, so the fingerprint changes whenever the
+ * listing does.
+ */
+public record ListingVersion(Long count, LocalDateTime lastModified, Long versionSum) {
+
+    /**
+     * Returns the fingerprint as a strong entity tag.
+     */
+    public String toETag() {
+        long modifiedMicros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        return "\"" + Long.toHexString(count == null ? 0 : count) + '-' + Long.toHexString(modifiedMicros) + '-'
+                + Long.toHexString(versionSum == null ? 0 : versionSum) + "\"";
+    }
+}
@@ -9,8 +9,6 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.Version;
@@ -21,7 +19,8 @@ import lombok.Setter;
 
 /**
  * Audit base class for all entities.
- * Uses UUID as primary key to avoid exposing row counts.
+ * Uses UUID as primary key to avoid exposing row counts. Keys are time-ordered
+ * and generated in memory, so inserts can be batched and stay index-friendly.
  */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
@@ -32,16 +31,16 @@ import lombok.Setter;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
     @CreatedDate
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @LastModifiedDate
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @Version
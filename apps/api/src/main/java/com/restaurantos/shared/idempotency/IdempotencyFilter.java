@@ -0,0 +1,222 @@
+package com.restaurantos.shared.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.auth.security.AuthenticatedUser;
+import com.restaurantos.shared.dto.ApiResponse;
+import com.restaurantos.shared.idempotency.IdempotencyStore.Entry;
+import com.restaurantos.shared.idempotency.IdempotencyStore.StoredResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes retried POSTs safe for the endpoints in {@code app.idempotency.paths}
+ * (order creation and payment initiation by default). A request carrying an
+ * {@code Idempotency-Key} header runs once; a retry with the same key, from
+ * the same user and to the same endpoint, gets the stored response back
+ * without reaching the controller or the database. A retry that arrives while
+ * the first request is still running is rejected with 409, and reusing a key
+ * with a different request body is rejected with 422.
+ *
+ * <p>Only successful responses are stored, so a request that failed can be
+ * retried with the same key. Keys are kept in memory for
+ * {@code app.idempotency.ttl-minutes}, at most {@code app.idempotency.max-keys}
+ * of them, and are not shared between nodes.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final List<String> paths;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore store;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(
+            @Value("${app.idempotency.paths:/api/restaurants/*/orders,/api/payments/*/initiate}") List<String> paths,
+            @Value("${app.idempotency.ttl-minutes:60}") long ttlMinutes,
+            @Value("${app.idempotency.max-keys:10000}") int maxKeys,
+            ObjectMapper objectMapper) {
+        this.paths = paths;
+        this.objectMapper = objectMapper;
+        this.store = new IdempotencyStore(Duration.ofMinutes(ttlMinutes), maxKeys, Clock.systemUTC());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // Scoped to the caller and endpoint, so keys from different tablets or users never collide
+        String storeKey = caller() + " " + request.getRequestURI() + " " + key;
+        // The body is read up front to fingerprint it, and replayed to the controller from memory
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String requestHash = sha256(body);
+        Entry existing = store.claim(storeKey, requestHash);
+        if (existing != null) {
+            if (!existing.requestHash().equals(requestHash)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "This " + HEADER + " was already used with a different request body");
+            } else if (existing.response() == null) {
+                writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+            } else {
+                log.debug("Replaying stored response for {} {}", request.getRequestURI(), key);
+                replay(existing.response(), response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+            if (HttpStatusCode.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                store.complete(storeKey, new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                        wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(storeKey);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "anonymous";
+        }
+        // A token principal is a record, whose getName() would be its toString() with role and restaurant
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id().toString();
+        }
+        return authentication.getName();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    /**
+     * Serves a request body that has already been read.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Body is already in memory");
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
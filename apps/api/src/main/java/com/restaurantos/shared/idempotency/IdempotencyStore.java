@@ -0,0 +1,108 @@
+package com.restaurantos.shared.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory record of recent idempotency keys, a hash of the request
+ * each was first used with, and the responses they produced. Keys expire {@code ttl} after they were first claimed, and once
+ * more than {@code maxKeys} are held the oldest are dropped first.
+ */
+final class IdempotencyStore {
+
+    private final Duration ttl;
+    private final int maxKeys;
+    private final Clock clock;
+
+    // Insertion order is claim order, so the oldest, and first to expire, key is always at the head
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    IdempotencyStore(Duration ttl, int maxKeys, Clock clock) {
+        this.ttl = ttl;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * Claims a key for a new request with the given request hash.
+     *
+     * @return {@code null} if the key was free and is now claimed, otherwise
+     *         the existing entry
+     */
+    Entry claim(String key, String requestHash) {
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            evictExpired(now);
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, new Entry(now, requestHash, null));
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxKeys) {
+                eldest.next();
+                eldest.remove();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the response of a claimed key, keeping its expiry.
+     */
+    void complete(String key, StoredResponse response) {
+        lock.lock();
+        try {
+            entries.computeIfPresent(key, (k, entry) -> new Entry(entry.claimedAt(), entry.requestHash(), response));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees a claimed key so that the request can be retried.
+     */
+    void release(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (oldest.hasNext() && !oldest.next().claimedAt().plus(ttl).isAfter(now)) {
+            oldest.remove();
+        }
+    }
+
+    /**
+     * A claimed key; {@code response} is {@code null} while its request is
+     * still running.
+     */
+    record Entry(Instant claimedAt, String requestHash, StoredResponse response) {
+    }
+
+    record StoredResponse(int status, String contentType, byte[] body) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.restaurantos.shared.lease;
+
+import java.time.LocalDateTime;
+
+import com.restaurantos.shared.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lease on a scheduled job that must run on one node of the cluster at a time.
+ * The node in {@code owner} holds the job until {@code leasedUntil}, renewing
+ * the lease as it makes progress; once it lapses any node may take it over.
+ * The row is created by the first node to claim the job.
+ */
+@Entity
+@Table(name = "job_leases", uniqueConstraints = @UniqueConstraint(columnNames = "name"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease extends BaseEntity {
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+}
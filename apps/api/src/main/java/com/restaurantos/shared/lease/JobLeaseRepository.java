@@ -0,0 +1,32 @@
+package com.restaurantos.shared.lease;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for JobLease entity. Like the outbox, leases are taken with
+ * conditional single-row updates, so nodes racing for a job cannot both win.
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, UUID> {
+
+    /**
+     * Takes or renews the lease on a job until {@code leaseUntil}. Returns 0 if
+     * the lease has no row yet or another node holds it.
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leasedUntil = :leaseUntil "
+            + "WHERE l.name = :name AND (l.owner = :owner OR l.leasedUntil <= :now)")
+    int claim(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leasedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    void release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,235 @@
+package com.restaurantos.shared.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers outbox events to their {@link OutboxEventHandler}s. Each poll reads
+ * a batch of due events and spreads it over a worker pool, one aggregate per
+ * task, so an aggregate's events are delivered one after the other while
+ * different aggregates are delivered in parallel.
+ *
+ * <p>A failed event is retried with exponential backoff and holds back the
+ * later events of its aggregate until it succeeds or, after
+ * {@code app.outbox.max-attempts}, is marked {@code FAILED} and left for an
+ * operator.
+ *
+ * <p>Polling runs on its own thread rather than on the shared
+ * {@code @Scheduled} thread, so nightly jobs running there never hold up
+ * delivery.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, List<OutboxEventHandler<?>>> handlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+    private final Duration retention;
+    private final long pollIntervalMillis;
+    private final ScheduledExecutorService poller;
+    private final ExecutorService pool;
+
+    public OutboxDispatcher(OutboxEventRepository repository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            List<OutboxEventHandler<?>> handlers,
+            @Value("${app.outbox.batch-size:100}") int batchSize,
+            @Value("${app.outbox.workers:4}") int workers,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.lease-seconds:60}") long leaseSeconds,
+            @Value("${app.outbox.retry-backoff-seconds:5}") long backoffSeconds,
+            @Value("${app.outbox.retention-days:7}") long retentionDays,
+            @Value("${app.outbox.poll-interval-ms:1000}") long pollIntervalMillis) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlers = new HashMap<>();
+        for (OutboxEventHandler<?> handler : handlers) {
+            this.handlers.computeIfAbsent(OutboxPublisher.eventType(handler.eventType()), type -> new ArrayList<>())
+                    .add(handler);
+        }
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.backoff = Duration.ofSeconds(backoffSeconds);
+        this.retention = Duration.ofDays(retentionDays);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-poll-"));
+        this.pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("outbox-"));
+    }
+
+    @PostConstruct
+    void start() {
+        poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drains the due events, batch after batch, then waits for the next poll.
+     */
+    public void poll() {
+        while (dispatchBatch() == batchSize && !Thread.currentThread().isInterrupted()) {
+            log.debug("Outbox batch was full, polling again");
+        }
+    }
+
+    /**
+     * Delivers one batch of due events and returns how many were read.
+     */
+    public int dispatchBatch() {
+        List<OutboxEvent> due = repository.findDue(OutboxEventStatus.PENDING, LocalDateTime.now(),
+                Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, List<OutboxEvent>> byAggregate = due.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getAggregateId, LinkedHashMap::new,
+                        Collectors.toList()));
+        List<Future<?>> results = new ArrayList<>(byAggregate.size());
+        for (List<OutboxEvent> events : byAggregate.values()) {
+            results.add(pool.submit(() -> deliverInOrder(events)));
+        }
+        try {
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Outbox dispatch interrupted, leased events are retried once their lease ends");
+        } catch (ExecutionException e) {
+            log.error("Outbox worker failed", e.getCause());
+        }
+        return due.size();
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        int deleted = transactionTemplate.execute(status -> repository.deleteProcessedBefore(
+                OutboxEventStatus.PROCESSED, LocalDateTime.now().minus(retention)));
+        log.info("Purged {} processed outbox events", deleted);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // An escaping exception would cancel the scheduled poll for good
+            log.error("Outbox poll failed", e);
+        }
+    }
+
+    private void deliverInOrder(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            if (!deliver(event)) {
+                // Later events of this aggregate wait for the next poll
+                return;
+            }
+        }
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = transactionTemplate.execute(status -> repository.claim(event.getId(),
+                OutboxEventStatus.PENDING, now, now.plus(lease)));
+        if (claimed == 0) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                handle(event);
+                repository.markProcessed(event.getId(), OutboxEventStatus.PROCESSED, LocalDateTime.now());
+            });
+            return true;
+        } catch (RuntimeException e) {
+            int attempts = event.getAttempts() + 1;
+            boolean exhausted = attempts >= maxAttempts;
+            LocalDateTime retryAt = LocalDateTime.now().plus(backoff(attempts));
+            transactionTemplate.executeWithoutResult(status -> repository.markFailed(event.getId(),
+                    exhausted ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING, retryAt, describe(e)));
+            if (exhausted) {
+                log.error("Giving up on outbox event {} ({} of {} {}) after {} attempts", event.getId(),
+                        event.getEventType(), event.getAggregateType(), event.getAggregateId(), attempts, e);
+            } else {
+                log.warn("Outbox event {} ({}) failed on attempt {}, retrying at {}", event.getId(),
+                        event.getEventType(), attempts, retryAt, e);
+            }
+            return false;
+        }
+    }
+
+    private void handle(OutboxEvent event) {
+        List<OutboxEventHandler<?>> consumers = handlers.get(event.getEventType());
+        if (consumers == null) {
+            log.warn("No handler for outbox event type {}, dropping event {}", event.getEventType(), event.getId());
+            return;
+        }
+        for (OutboxEventHandler<?> consumer : consumers) {
+            invoke(consumer, event);
+        }
+    }
+
+    private <E> void invoke(OutboxEventHandler<E> handler, OutboxEvent event) {
+        E payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), handler.eventType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload for outbox event " + event.getId(), e);
+        }
+        handler.handle(payload);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String describe(RuntimeException e) {
+        String error = e.toString();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
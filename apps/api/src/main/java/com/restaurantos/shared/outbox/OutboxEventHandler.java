@@ -0,0 +1,19 @@
+package com.restaurantos.shared.outbox;
+
+/**
+ * A consumer of outbox events of one type. Handlers are Spring beans and are
+ * picked up by {@link OutboxDispatcher} automatically.
+ *
+ * <p>{@link #handle} runs on a dispatcher worker thread, in the transaction
+ * that marks the event processed: if it throws, its writes are rolled back
+ * and the event is retried later. Delivery is at least once, so a handler
+ * with effects outside the database must tolerate seeing an event again.
+ *
+ * @param <E> the event class, read back from the stored JSON payload
+ */
+public interface OutboxEventHandler<E> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+}
@@ -0,0 +1,61 @@
+package com.restaurantos.shared.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for OutboxEvent entity. Delivery state is changed with
+ * conditional single-row updates, so dispatchers on several nodes can poll the
+ * same table without delivering an event twice at the same time.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Due events oldest first. Keys are time-ordered, so ordering by id is
+     * ordering by write time. An event is left out while an earlier event of
+     * its aggregate is still pending but not due (waiting for a retry, or
+     * leased by another dispatcher), which keeps each aggregate's events in
+     * order.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :pending AND e.availableAt <= :now "
+            + "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.aggregateId = e.aggregateId "
+            + "AND p.status = :pending AND p.availableAt > :now AND p.id < e.id) "
+            + "ORDER BY e.id")
+    List<OutboxEvent> findDue(@Param("pending") OutboxEventStatus pending, @Param("now") LocalDateTime now,
+            Limit limit);
+
+    /**
+     * Leases a due event to the caller until {@code leaseUntil}, counting the
+     * attempt. Returns 0 if another dispatcher got to it first.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :leaseUntil, e.attempts = e.attempts + 1 "
+            + "WHERE e.id = :id AND e.status = :pending AND e.availableAt <= :now")
+    int claim(@Param("id") UUID id, @Param("pending") OutboxEventStatus pending, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.processedAt = :processedAt, e.lastError = NULL "
+            + "WHERE e.id = :id")
+    void markProcessed(@Param("id") UUID id, @Param("status") OutboxEventStatus status,
+            @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.availableAt = :retryAt, e.lastError = :error "
+            + "WHERE e.id = :id")
+    void markFailed(@Param("id") UUID id, @Param("status") OutboxEventStatus status,
+            @Param("retryAt") LocalDateTime retryAt, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxEventStatus status, @Param("before") LocalDateTime before);
+}
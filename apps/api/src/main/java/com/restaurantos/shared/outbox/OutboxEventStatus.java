@@ -0,0 +1,10 @@
+package com.restaurantos.shared.outbox;
+
+/**
+ * Represents the delivery state of an outbox event.
+ */
+public enum OutboxEventStatus {
+    PENDING, // Waiting for delivery, or for its next retry
+    PROCESSED, // Every consumer handled it
+    FAILED // Gave up after the maximum number of attempts
+}
@@ -0,0 +1,54 @@
+package com.restaurantos.shared.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes events to the outbox. Use it instead of
+ * {@link org.springframework.context.ApplicationEventPublisher} for events
+ * whose consumers do real work (stock, notifications) that should neither
+ * slow down nor roll back the request that raised them.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stores {@code event} in the caller's transaction. Events with the same
+     * {@code aggregateId} are delivered in the order they were published.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, UUID aggregateId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+
+        repository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType(event.getClass()))
+                .payload(payload)
+                .availableAt(LocalDateTime.now())
+                .build());
+    }
+
+    // The simple name, so stored events survive moving their class to another package
+    static String eventType(Class<?> eventClass) {
+        return eventClass.getSimpleName();
+    }
+}
@@ -0,0 +1,248 @@
+package com.restaurantos.shared.websocket.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queues outgoing STOMP broadcasts and delivers them from a dedicated thread.
+ * Every flush window the queue is drained, updates for the same entity on the
+ * same destination are collapsed to the latest one, and each payload is
+ * serialized once no matter how many destinations receive it. Queue depth,
+ * drops, coalescing, payload size and send latency are exported as metrics.
+ */
+@Component
+@Slf4j
+public class BroadcastDispatcher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Broadcast> queue;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService executor;
+    private final DistributionSummary payloadSize;
+    private final Timer sendTimer;
+    private final Map<Class<?>, Optional<AnnotatedMember>> idAccessors = new ConcurrentHashMap<>();
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private long droppedAtLastFlush;
+
+    public BroadcastDispatcher(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.websocket.flush-interval-ms:50}") long flushIntervalMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("ws-broadcast-"));
+
+        this.payloadSize = DistributionSummary.builder("restaurantos.websocket.payload.size")
+                .description("Serialized size of a sent broadcast")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("restaurantos.websocket.send")
+                .description("Time to hand one broadcast to the message broker")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("restaurantos.websocket.queue.depth", queue, BlockingQueue::size)
+                .description("Broadcasts waiting for the next flush")
+                .register(meterRegistry);
+        FunctionCounter.builder("restaurantos.websocket.dropped", droppedCount, AtomicLong::get)
+                .description("Broadcasts dropped because the queue was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("restaurantos.websocket.coalesced", coalescedCount, AtomicLong::get)
+                .description("Broadcasts superseded by a later update before being sent")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        flushSafely();
+    }
+
+    /**
+     * Queues a payload for delivery. Never blocks: when the queue is full the
+     * broadcast is dropped and counted.
+     */
+    public void submit(String destination, Object payload) {
+        if (queue.offer(new Broadcast(destination, payload))) {
+            enqueuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // An escaping exception would cancel the scheduled task for good
+            log.error("WebSocket broadcast flush failed", e);
+        }
+    }
+
+    void flush() {
+        List<Broadcast> batch = new ArrayList<>();
+        queue.drainTo(batch);
+
+        long dropped = droppedCount.get();
+        if (dropped > droppedAtLastFlush) {
+            log.warn("Dropped {} WebSocket broadcasts, queue is full", dropped - droppedAtLastFlush);
+            droppedAtLastFlush = dropped;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Serialized straight to the bytes that are sent, once per payload
+        Map<Object, byte[]> serialized = new IdentityHashMap<>();
+        Map<Object, Broadcast> latest = new LinkedHashMap<>();
+        for (Broadcast broadcast : batch) {
+            if (serialized.computeIfAbsent(broadcast.payload(), this::toJson) == null) {
+                continue;
+            }
+            if (latest.put(coalescingKey(broadcast), broadcast) != null) {
+                coalescedCount.incrementAndGet();
+            }
+        }
+
+        for (Broadcast broadcast : latest.values()) {
+            byte[] body = serialized.get(broadcast.payload());
+            Message<byte[]> message = jsonMessage(body);
+            sendTimer.record(() -> messagingTemplate.send(broadcast.destination(), message));
+            payloadSize.record(body.length);
+            sentCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Payloads exposing an {@code id} supersede earlier payloads of the same type
+     * and id on the same destination. Anything else only collapses with exact
+     * duplicates.
+     */
+    private Object coalescingKey(Broadcast broadcast) {
+        Object id = entityId(broadcast.payload());
+        if (id != null) {
+            return broadcast.destination() + '|' + broadcast.payload().getClass().getName() + '|' + id;
+        }
+        return broadcast;
+    }
+
+    /**
+     * The {@code id} the payload is serialized with, read from the object
+     * itself rather than from its JSON.
+     */
+    private Object entityId(Object payload) {
+        if (payload instanceof Map<?, ?> map) {
+            return map.get("id");
+        }
+        return idAccessors.computeIfAbsent(payload.getClass(), this::findIdAccessor)
+                .map(accessor -> accessor.getValue(payload))
+                .orElse(null);
+    }
+
+    private Optional<AnnotatedMember> findIdAccessor(Class<?> type) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        Optional<AnnotatedMember> accessor = config.introspect(objectMapper.constructType(type))
+                .findProperties().stream()
+                .filter(property -> "id".equals(property.getName()) && property.couldSerialize())
+                .map(BeanPropertyDefinition::getAccessor)
+                .filter(Objects::nonNull)
+                .findFirst();
+        // Reached the way the serializer reaches it, e.g. on a payload type that is not public
+        if (config.canOverrideAccessModifiers()) {
+            accessor.ifPresent(member -> member.fixAccess(
+                    config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS)));
+        }
+        return accessor;
+    }
+
+    private byte[] toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize WebSocket payload of type {}", payload.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    private Message<byte[]> jsonMessage(byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private record Broadcast(String destination, Object payload) {
+    }
+}
@@ -2,42 +2,77 @@ package com.restaurantos.shared.websocket.impl;
 
 import java.util.UUID;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.restaurantos.shared.websocket.WebSocketService;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Implementation of WebSocketService using SimpMessagingTemplate.
+ * Implementation of WebSocketService on top of {@link BroadcastDispatcher}.
+ * Broadcasts issued inside a transaction are held back until it commits and
+ * discarded if it rolls back; delivery itself never runs on the caller's thread.
+ * Handed-off broadcasts are counted per topic; payload size and send latency
+ * are measured by the dispatcher, which serializes and sends them.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WebSocketServiceImpl implements WebSocketService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastDispatcher dispatcher;
+    private final Counter kitchenBroadcasts;
+    private final Counter orderBroadcasts;
+    private final Counter dashboardBroadcasts;
+
+    public WebSocketServiceImpl(BroadcastDispatcher dispatcher, MeterRegistry meterRegistry) {
+        this.dispatcher = dispatcher;
+        this.kitchenBroadcasts = broadcastCounter(meterRegistry, "kitchen");
+        this.orderBroadcasts = broadcastCounter(meterRegistry, "order");
+        this.dashboardBroadcasts = broadcastCounter(meterRegistry, "dashboard");
+    }
 
     @Override
     public void broadcastToKitchen(UUID restaurantId, Object payload) {
-        String destination = "/topic/restaurants/" + restaurantId + "/kitchen";
-        log.debug("Broadcasting to kitchen {}: {}", restaurantId, payload);
-        messagingTemplate.convertAndSend(destination, payload);
+        publish("/topic/restaurants/" + restaurantId + "/kitchen", payload, kitchenBroadcasts);
     }
 
     @Override
     public void broadcastToOrder(UUID orderId, Object payload) {
-        String destination = "/topic/orders/" + orderId;
-        log.debug("Broadcasting to order {}: {}", orderId, payload);
-        messagingTemplate.convertAndSend(destination, payload);
+        publish("/topic/orders/" + orderId, payload, orderBroadcasts);
     }
 
     @Override
     public void broadcastToDashboard(UUID restaurantId, Object payload) {
-        String destination = "/topic/restaurants/" + restaurantId + "/dashboard";
-        log.debug("Broadcasting to dashboard {}: {}", restaurantId, payload);
-        messagingTemplate.convertAndSend(destination, payload);
+        publish("/topic/restaurants/" + restaurantId + "/dashboard", payload, dashboardBroadcasts);
+    }
+
+    private void publish(String destination, Object payload, Counter counter) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(destination, payload, counter);
+            return;
+        }
+        log.debug("Deferring broadcast to {} until commit", destination);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(destination, payload, counter);
+            }
+        });
+    }
+
+    private void submit(String destination, Object payload, Counter counter) {
+        counter.increment();
+        dispatcher.submit(destination, payload);
+    }
+
+    private static Counter broadcastCounter(MeterRegistry meterRegistry, String topic) {
+        return Counter.builder("restaurantos.websocket.broadcasts")
+                .description("Broadcasts handed to the dispatcher")
+                .tag("topic", topic)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,14 @@
+-- Per-restaurant order number counters. Kept out of the baseline so databases
+-- adopted at V1 through baseline-on-migrate still get the table.
+CREATE TABLE order_sequences (
+    id            BINARY(16)  NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    version       INTEGER,
+    restaurant_id BINARY(16)  NOT NULL,
+    sequence_date DATE        NOT NULL,
+    last_number   INTEGER     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_order_sequence_restaurant UNIQUE (restaurant_id),
+    CONSTRAINT fk_order_sequence_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
@@ -0,0 +1,274 @@
+-- Baseline: the schema as Hibernate generated it before migrations were
+-- introduced. Existing databases are adopted at this version
+-- (spring.flyway.baseline-on-migrate) and only run the migrations after it.
+
+CREATE TABLE restaurants (
+    id                      BINARY(16)   NOT NULL,
+    created_at              DATETIME(6)  NOT NULL,
+    updated_at              DATETIME(6)  NOT NULL,
+    version                 INTEGER,
+    name                    VARCHAR(255) NOT NULL,
+    slug                    VARCHAR(255) NOT NULL,
+    address                 VARCHAR(255),
+    phone                   VARCHAR(255),
+    email                   VARCHAR(255),
+    logo_url                VARCHAR(255),
+    theme_color             VARCHAR(255),
+    custom_domain           VARCHAR(255),
+    plan                    ENUM ('FREE','STARTER','PRO','ENTERPRISE') NOT NULL,
+    subscription_expires_at DATETIME(6),
+    settings                TEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_restaurant_slug UNIQUE (slug)
+);
+
+CREATE TABLE users (
+    id            BINARY(16)   NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    version       INTEGER,
+    username      VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    full_name     VARCHAR(255) NOT NULL,
+    phone         VARCHAR(255),
+    avatar_url    VARCHAR(255),
+    role          ENUM ('OWNER','MANAGER','STAFF','KITCHEN') NOT NULL,
+    is_active     BIT          NOT NULL,
+    last_login_at DATETIME(6),
+    restaurant_id BINARY(16),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT fk_user_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+CREATE INDEX idx_user_username ON users (username);
+CREATE INDEX idx_user_email ON users (email);
+
+CREATE TABLE refresh_tokens (
+    id         BINARY(16)   NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    version    INTEGER,
+    token      VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    user_id    BINARY(16)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_token UNIQUE (token),
+    CONSTRAINT uk_refresh_token_user UNIQUE (user_id),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+CREATE INDEX idx_refresh_token_value ON refresh_tokens (token);
+
+CREATE TABLE menu_categories (
+    id            BINARY(16)   NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    version       INTEGER,
+    name          VARCHAR(255) NOT NULL,
+    description   VARCHAR(500),
+    display_order INTEGER      NOT NULL,
+    is_active     BIT          NOT NULL,
+    restaurant_id BINARY(16)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menu_category_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+
+CREATE TABLE menu_items (
+    id            BINARY(16)    NOT NULL,
+    created_at    DATETIME(6)   NOT NULL,
+    updated_at    DATETIME(6)   NOT NULL,
+    version       INTEGER,
+    name          VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000),
+    price         DECIMAL(19,2) NOT NULL,
+    image_url     VARCHAR(500),
+    thumbnail_url VARCHAR(500),
+    prep_time     INTEGER,
+    spicy_level   INTEGER,
+    is_vegetarian BIT           NOT NULL,
+    allergens     VARCHAR(500),
+    is_available  BIT           NOT NULL,
+    display_order INTEGER       NOT NULL,
+    is_featured   BIT           NOT NULL,
+    is_active     BIT           NOT NULL,
+    order_count   BIGINT        NOT NULL,
+    rating_avg    DECIMAL(3,2),
+    rating_count  BIGINT        NOT NULL,
+    restaurant_id BINARY(16)    NOT NULL,
+    category_id   BINARY(16)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menu_item_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_menu_item_category FOREIGN KEY (category_id) REFERENCES menu_categories (id)
+);
+CREATE INDEX idx_menu_item_restaurant_id ON menu_items (restaurant_id);
+CREATE INDEX idx_menu_item_category_id ON menu_items (category_id);
+
+CREATE TABLE restaurant_tables (
+    id               BINARY(16)  NOT NULL,
+    created_at       DATETIME(6) NOT NULL,
+    updated_at       DATETIME(6) NOT NULL,
+    version          INTEGER,
+    table_number     INTEGER     NOT NULL,
+    capacity         INTEGER     NOT NULL,
+    qr_code_token    VARCHAR(255),
+    status           ENUM ('EMPTY','OCCUPIED','RESERVED','CLEANING') NOT NULL,
+    section          VARCHAR(50),
+    current_order_id BINARY(16),
+    restaurant_id    BINARY(16)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_table_restaurant_number UNIQUE (restaurant_id, table_number),
+    CONSTRAINT uk_table_qr_code_token UNIQUE (qr_code_token),
+    CONSTRAINT fk_table_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+CREATE INDEX idx_table_restaurant ON restaurant_tables (restaurant_id);
+CREATE INDEX idx_table_qr_token ON restaurant_tables (qr_code_token);
+
+CREATE TABLE orders (
+    id                   BINARY(16)    NOT NULL,
+    created_at           DATETIME(6)   NOT NULL,
+    updated_at           DATETIME(6)   NOT NULL,
+    version              INTEGER,
+    order_number         VARCHAR(20)   NOT NULL,
+    customer_name        VARCHAR(255),
+    customer_phone       VARCHAR(20),
+    assigned_staff_id    BINARY(16),
+    status               ENUM ('PENDING','CONFIRMED','PREPARING','READY','COMPLETED','CANCELLED') NOT NULL,
+    subtotal             DECIMAL(19,2) NOT NULL,
+    discount_amount      DECIMAL(19,2),
+    tax_amount           DECIMAL(19,2),
+    total_amount         DECIMAL(19,2) NOT NULL,
+    payment_method       ENUM ('CASH','MOMO','VNPAY','BANK_TRANSFER'),
+    payment_status       ENUM ('UNPAID','PARTIAL','PAID','REFUNDED') NOT NULL,
+    paid_at              DATETIME(6),
+    special_instructions TEXT,
+    confirmed_at         DATETIME(6),
+    completed_at         DATETIME(6),
+    cancelled_at         DATETIME(6),
+    restaurant_id        BINARY(16)    NOT NULL,
+    table_id             BINARY(16),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_order_table FOREIGN KEY (table_id) REFERENCES restaurant_tables (id)
+);
+CREATE INDEX idx_order_restaurant ON orders (restaurant_id);
+CREATE INDEX idx_order_table ON orders (table_id);
+CREATE INDEX idx_order_status ON orders (status);
+CREATE INDEX idx_order_number ON orders (order_number);
+
+CREATE TABLE order_items (
+    id                    BINARY(16)    NOT NULL,
+    created_at            DATETIME(6)   NOT NULL,
+    updated_at            DATETIME(6)   NOT NULL,
+    version               INTEGER,
+    order_id              BINARY(16)    NOT NULL,
+    menu_item_id          BINARY(16),
+    item_name             VARCHAR(255)  NOT NULL,
+    unit_price            DECIMAL(19,2) NOT NULL,
+    quantity              INTEGER       NOT NULL,
+    subtotal              DECIMAL(19,2) NOT NULL,
+    special_instructions  TEXT,
+    status                ENUM ('PENDING','PREPARING','READY','SERVED') NOT NULL,
+    started_preparing_at  DATETIME(6),
+    ready_at              DATETIME(6),
+    served_at             DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_item_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE transactions (
+    id                     BINARY(16)    NOT NULL,
+    created_at             DATETIME(6)   NOT NULL,
+    updated_at             DATETIME(6)   NOT NULL,
+    version                INTEGER,
+    order_id               BINARY(16)    NOT NULL,
+    amount                 DECIMAL(19,2) NOT NULL,
+    payment_method         ENUM ('CASH','MOMO','VNPAY','BANK_TRANSFER') NOT NULL,
+    gateway_transaction_id VARCHAR(255),
+    status                 ENUM ('PENDING','COMPLETED','FAILED','REFUNDED') NOT NULL,
+    gateway_response       TEXT,
+    error_message          VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_transaction_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+CREATE INDEX idx_transaction_order ON transactions (order_id);
+CREATE INDEX idx_transaction_gateway_id ON transactions (gateway_transaction_id);
+
+CREATE TABLE ingredients (
+    id             BINARY(16)    NOT NULL,
+    created_at     DATETIME(6)   NOT NULL,
+    updated_at     DATETIME(6)   NOT NULL,
+    version        INTEGER,
+    name           VARCHAR(255)  NOT NULL,
+    unit           VARCHAR(255)  NOT NULL,
+    current_stock  DECIMAL(38,2) NOT NULL,
+    min_stock      DECIMAL(38,2) NOT NULL,
+    cost_per_unit  DECIMAL(38,2),
+    supplier_name  VARCHAR(255),
+    supplier_phone VARCHAR(255),
+    restaurant_id  BINARY(16)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_ingredient_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+
+CREATE TABLE recipe_ingredients (
+    menu_item_id  BINARY(16)    NOT NULL,
+    ingredient_id BINARY(16)    NOT NULL,
+    quantity      DECIMAL(38,2) NOT NULL,
+    PRIMARY KEY (ingredient_id, menu_item_id),
+    CONSTRAINT fk_recipe_ingredient_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id),
+    CONSTRAINT fk_recipe_ingredient_ingredient FOREIGN KEY (ingredient_id) REFERENCES ingredients (id)
+);
+
+CREATE TABLE inventory_history (
+    id              BINARY(16)    NOT NULL,
+    created_at      DATETIME(6)   NOT NULL,
+    updated_at      DATETIME(6)   NOT NULL,
+    version         INTEGER,
+    ingredient_id   BINARY(16)    NOT NULL,
+    usage_quantity  DECIMAL(38,2) NOT NULL,
+    adjustment_type ENUM ('MANUAL','AUTO_DEDUCTION','WASTE','RESTOCK','CORRECTION') NOT NULL,
+    reason          VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_inventory_history_ingredient FOREIGN KEY (ingredient_id) REFERENCES ingredients (id)
+);
+
+CREATE TABLE notifications (
+    id         BINARY(16)   NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    version    INTEGER,
+    user_id    BINARY(16)   NOT NULL,
+    type       ENUM ('LOW_STOCK','NEW_ORDER','ORDER_READY','ORDER_CANCELLED','SYSTEM_ALERT') NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    message    TEXT         NOT NULL,
+    action_url VARCHAR(255),
+    is_read    BIT          NOT NULL,
+    read_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notification_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+CREATE INDEX idx_notification_user ON notifications (user_id);
+CREATE INDEX idx_notification_is_read ON notifications (is_read);
+
+CREATE TABLE daily_reports (
+    id                BINARY(16)    NOT NULL,
+    created_at        DATETIME(6)   NOT NULL,
+    updated_at        DATETIME(6)   NOT NULL,
+    version           INTEGER,
+    restaurant_id     BINARY(16)    NOT NULL,
+    report_date       DATE          NOT NULL,
+    total_revenue     DECIMAL(19,2) NOT NULL,
+    total_orders      INTEGER       NOT NULL,
+    avg_order_value   DECIMAL(19,2) NOT NULL,
+    top_selling_items JSON,
+    total_customers   INTEGER       NOT NULL,
+    new_customers     INTEGER       NOT NULL,
+    avg_prep_time     FLOAT(53),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_report_restaurant_date UNIQUE (restaurant_id, report_date),
+    CONSTRAINT fk_daily_report_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+CREATE INDEX idx_daily_report_restaurant ON daily_reports (restaurant_id);
+CREATE INDEX idx_daily_report_date ON daily_reports (report_date);
@@ -0,0 +1,20 @@
+-- Indexes shaped after the per-restaurant hot queries. ${online_ddl} builds
+-- them in place without blocking writes on MySQL (see application.properties).
+
+-- Order listings (keyset pages), daily counts and revenue sums
+CREATE INDEX idx_order_restaurant_created ON orders (restaurant_id, created_at) ${online_ddl};
+-- Status-filtered kitchen views, revenue by status and top dishes
+CREATE INDEX idx_order_restaurant_status_created ON orders (restaurant_id, status, created_at) ${online_ddl};
+-- Superseded by the composites above, which lead with restaurant_id
+DROP INDEX idx_order_restaurant ON orders ${online_ddl};
+
+-- Item lookups per order and the order -> items join of top dishes
+CREATE INDEX idx_order_item_order ON order_items (order_id) ${online_ddl};
+
+-- Unread notifications per user, newest first
+CREATE INDEX idx_notification_user_read_created ON notifications (user_id, is_read, created_at) ${online_ddl};
+DROP INDEX idx_notification_user ON notifications ${online_ddl};
+DROP INDEX idx_notification_is_read ON notifications ${online_ddl};
+
+-- Ingredient lists and low-stock checks per restaurant
+CREATE INDEX idx_ingredient_restaurant ON ingredients (restaurant_id) ${online_ddl};
@@ -0,0 +1,21 @@
+-- Progress of the daily report batch job, one row per report date. A run left
+-- RUNNING by a crash is resumed by the next trigger.
+CREATE TABLE daily_report_runs (
+    id                BINARY(16)                   NOT NULL,
+    created_at        DATETIME(6)                  NOT NULL,
+    updated_at        DATETIME(6)                  NOT NULL,
+    version           INTEGER,
+    report_date       DATE                         NOT NULL,
+    status            ENUM ('RUNNING','COMPLETED') NOT NULL,
+    started_at        DATETIME(6)                  NOT NULL,
+    finished_at       DATETIME(6),
+    restaurants_total INTEGER                      NOT NULL,
+    restaurants_done  INTEGER                      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_report_run_date UNIQUE (report_date)
+);
+CREATE INDEX idx_daily_report_run_status ON daily_report_runs (status);
+
+-- Restaurants a run has finished: reports for a date written since the run started
+CREATE INDEX idx_daily_report_date_updated ON daily_reports (report_date, updated_at) ${online_ddl};
+DROP INDEX idx_daily_report_date ON daily_reports ${online_ddl};
@@ -0,0 +1,3 @@
+-- First-time customer counts of the daily report probe each phone number for an
+-- earlier order at the same restaurant
+CREATE INDEX idx_order_restaurant_phone_created ON orders (restaurant_id, customer_phone, created_at) ${online_ddl};
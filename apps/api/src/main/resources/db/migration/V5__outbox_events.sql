@@ -0,0 +1,22 @@
+-- Transactional outbox: events written in the transaction that caused them and
+-- delivered to their consumers afterwards by the outbox dispatcher
+CREATE TABLE outbox_events (
+    id             BINARY(16)                            NOT NULL,
+    created_at     DATETIME(6)                           NOT NULL,
+    updated_at     DATETIME(6)                           NOT NULL,
+    version        INTEGER,
+    aggregate_type VARCHAR(50)                           NOT NULL,
+    aggregate_id   BINARY(16)                            NOT NULL,
+    event_type     VARCHAR(100)                          NOT NULL,
+    payload        TEXT                                  NOT NULL,
+    status         ENUM ('PENDING','PROCESSED','FAILED') NOT NULL,
+    attempts       INTEGER                               NOT NULL,
+    available_at   DATETIME(6)                           NOT NULL,
+    processed_at   DATETIME(6),
+    last_error     VARCHAR(500),
+    PRIMARY KEY (id)
+);
+-- Polling for due events, and purging processed ones
+CREATE INDEX idx_outbox_status_available ON outbox_events (status, available_at);
+-- Holding back an aggregate's later events while an earlier one waits for a retry
+CREATE INDEX idx_outbox_aggregate_status ON outbox_events (aggregate_id, status);
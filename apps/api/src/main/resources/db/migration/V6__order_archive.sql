@@ -0,0 +1,64 @@
+-- Cold storage for closed orders past the archive horizon. Same columns as the
+-- hot tables; the order archive job moves rows over in batches, so orders and
+-- order_items only hold recent and still open orders.
+CREATE TABLE orders_archive (
+    id                   BINARY(16)    NOT NULL,
+    created_at           DATETIME(6)   NOT NULL,
+    updated_at           DATETIME(6)   NOT NULL,
+    version              INTEGER,
+    order_number         VARCHAR(20)   NOT NULL,
+    customer_name        VARCHAR(255),
+    customer_phone       VARCHAR(20),
+    assigned_staff_id    BINARY(16),
+    status               ENUM ('PENDING','CONFIRMED','PREPARING','READY','COMPLETED','CANCELLED') NOT NULL,
+    subtotal             DECIMAL(19,2) NOT NULL,
+    discount_amount      DECIMAL(19,2),
+    tax_amount           DECIMAL(19,2),
+    total_amount         DECIMAL(19,2) NOT NULL,
+    payment_method       ENUM ('CASH','MOMO','VNPAY','BANK_TRANSFER'),
+    payment_status       ENUM ('UNPAID','PARTIAL','PAID','REFUNDED') NOT NULL,
+    paid_at              DATETIME(6),
+    special_instructions TEXT,
+    confirmed_at         DATETIME(6),
+    completed_at         DATETIME(6),
+    cancelled_at         DATETIME(6),
+    restaurant_id        BINARY(16)    NOT NULL,
+    table_id             BINARY(16),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_archive_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_order_archive_table FOREIGN KEY (table_id) REFERENCES restaurant_tables (id)
+);
+CREATE INDEX idx_order_archive_table ON orders_archive (table_id);
+CREATE INDEX idx_order_archive_restaurant_created ON orders_archive (restaurant_id, created_at);
+CREATE INDEX idx_order_archive_restaurant_status_created ON orders_archive (restaurant_id, status, created_at);
+CREATE INDEX idx_order_archive_restaurant_phone_created ON orders_archive (restaurant_id, customer_phone, created_at);
+
+CREATE TABLE order_items_archive (
+    id                    BINARY(16)    NOT NULL,
+    created_at            DATETIME(6)   NOT NULL,
+    updated_at            DATETIME(6)   NOT NULL,
+    version               INTEGER,
+    order_id              BINARY(16)    NOT NULL,
+    menu_item_id          BINARY(16),
+    item_name             VARCHAR(255)  NOT NULL,
+    unit_price            DECIMAL(19,2) NOT NULL,
+    quantity              INTEGER       NOT NULL,
+    subtotal              DECIMAL(19,2) NOT NULL,
+    special_instructions  TEXT,
+    status                ENUM ('PENDING','PREPARING','READY','SERVED') NOT NULL,
+    started_preparing_at  DATETIME(6),
+    ready_at              DATETIME(6),
+    served_at             DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_item_archive_order FOREIGN KEY (order_id) REFERENCES orders_archive (id),
+    CONSTRAINT fk_order_item_archive_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+CREATE INDEX idx_order_item_archive_order ON order_items_archive (order_id);
+
+-- A payment keeps its order_id when the order moves to the archive. Dropping a
+-- foreign key only changes metadata and does not rebuild the table.
+ALTER TABLE transactions DROP FOREIGN KEY fk_transaction_order;
+
+-- The archive job looks up closed orders by age
+CREATE INDEX idx_order_status_created ON orders (status, created_at) ${online_ddl};
+DROP INDEX idx_order_status ON orders ${online_ddl};
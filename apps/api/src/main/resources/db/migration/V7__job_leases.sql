@@ -0,0 +1,13 @@
+-- Leases on scheduled jobs that must run on one node at a time, one row per
+-- job. A node holds the job until leased_until and renews as it goes.
+CREATE TABLE job_leases (
+    id           BINARY(16)  NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    version      INTEGER,
+    name         VARCHAR(50) NOT NULL,
+    owner        VARCHAR(36) NOT NULL,
+    leased_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_job_lease_name UNIQUE (name)
+);
@@ -0,0 +1,224 @@
+package com.restaurantos.modules.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.analytics.dto.response.TopDishResponse;
+import com.restaurantos.modules.analytics.entity.DailyReport;
+import com.restaurantos.modules.analytics.entity.DailyReportRun;
+import com.restaurantos.modules.analytics.entity.DailyReportRunStatus;
+import com.restaurantos.modules.analytics.repository.DailyReportRepository;
+import com.restaurantos.modules.analytics.repository.DailyReportRunRepository;
+import com.restaurantos.modules.analytics.service.impl.DailyReportGeneratorServiceImpl;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.repository.ArchivedOrderItemRepository;
+import com.restaurantos.modules.order.repository.ArchivedOrderRepository;
+import com.restaurantos.modules.order.repository.DailyOrderTotals;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DailyReportGeneratorServiceTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private ArchivedOrderItemRepository archivedOrderItemRepository;
+
+    @Mock
+    private DailyReportRepository dailyReportRepository;
+
+    @Mock
+    private DailyReportRunRepository runRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DailyReportGeneratorService generatorService;
+
+    private LocalDate yesterday;
+    private UUID firstRestaurantId;
+    private UUID secondRestaurantId;
+
+    @BeforeEach
+    void setUp() {
+        generatorService = new DailyReportGeneratorServiceImpl(restaurantRepository, orderRepository,
+                orderItemRepository, archivedOrderRepository, archivedOrderItemRepository, dailyReportRepository,
+                runRepository, new ObjectMapper(), transactionManager, 2);
+        yesterday = LocalDate.now().minusDays(1);
+        firstRestaurantId = UUID.randomUUID();
+        secondRestaurantId = UUID.randomUUID();
+
+        when(runRepository.findByStatusOrderByReportDateAsc(DailyReportRunStatus.RUNNING)).thenReturn(List.of());
+        lenient().when(restaurantRepository.findAllIds()).thenReturn(List.of(firstRestaurantId, secondRestaurantId));
+        lenient().when(orderRepository.summarizeDay(any(), eq(OrderStatus.COMPLETED), any(), any()))
+                .thenReturn(new DailyOrderTotals(BigDecimal.valueOf(300000), 3L, 2L, 1L, 450.0, 4L));
+        lenient().when(orderItemRepository.findTopSellingItems(any(), any(), any(), any())).thenReturn(List.of());
+        lenient().when(dailyReportRepository.findByRestaurantIdAndReportDate(any(), eq(yesterday)))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    void generateDailyReports_ShouldWriteEveryRestaurantAndCompleteRun() {
+        // Given
+        DailyReportRun run = run(LocalDateTime.now());
+        when(runRepository.findByReportDate(yesterday)).thenReturn(Optional.empty());
+        when(restaurantRepository.count()).thenReturn(2L);
+        when(runRepository.save(any(DailyReportRun.class))).thenReturn(run);
+        when(dailyReportRepository.findRestaurantIdsWrittenSince(yesterday, run.getStartedAt()))
+                .thenReturn(List.of());
+
+        // When
+        generatorService.generateDailyReports();
+
+        // Then
+        ArgumentCaptor<DailyReport> reports = ArgumentCaptor.forClass(DailyReport.class);
+        verify(dailyReportRepository, times(2)).save(reports.capture());
+        assertThat(reports.getAllValues()).allSatisfy(report -> {
+            assertThat(report.getTotalOrders()).isEqualTo(3);
+            assertThat(report.getAvgOrderValue()).isEqualByComparingTo("100000");
+            assertThat(report.getTotalCustomers()).isEqualTo(2);
+            assertThat(report.getNewCustomers()).isEqualTo(1);
+            assertThat(report.getAvgPrepTime()).isEqualTo(7.5);
+        });
+        verify(runRepository, times(2)).incrementDone(run.getId());
+        verify(runRepository).finish(eq(run.getId()), eq(DailyReportRunStatus.COMPLETED), any());
+    }
+
+    @Test
+    void generateDailyReports_ShouldMergeBothTablesForPartlyArchivedDay() {
+        // Given
+        DailyReportRun run = run(LocalDateTime.now());
+        when(runRepository.findByReportDate(yesterday)).thenReturn(Optional.of(run));
+        when(dailyReportRepository.findRestaurantIdsWrittenSince(yesterday, run.getStartedAt()))
+                .thenReturn(List.of());
+        // Completed orders were archived while a cancelled one and its items are still hot
+        when(archivedOrderRepository.existsByRestaurantIdAndCreatedAtBetween(any(), any(), any())).thenReturn(true);
+        when(orderRepository.existsByRestaurantIdAndCreatedAtBetween(any(), any(), any())).thenReturn(true);
+        when(orderRepository.summarizeDay(any(), eq(OrderStatus.COMPLETED), any(), any()))
+                .thenReturn(new DailyOrderTotals(BigDecimal.valueOf(100000), 1L, 2L, 1L, 540.0, 1L));
+        when(archivedOrderRepository.summarizeDay(any(), eq(OrderStatus.COMPLETED), any(), any()))
+                .thenReturn(new DailyOrderTotals(BigDecimal.valueOf(200000), 1L, 2L, 1L, 360.0, 2L));
+        when(orderRepository.findCustomerPhones(any(), any(), any())).thenReturn(List.of("0901", "0902"));
+        when(archivedOrderRepository.findCustomerPhones(any(), any(), any())).thenReturn(List.of("0901", "0903"));
+        when(orderRepository.findNewCustomerPhones(any(), any(), any())).thenReturn(List.of("0902"));
+        when(archivedOrderRepository.findNewCustomerPhones(any(), any(), any())).thenReturn(List.of("0903"));
+        UUID pho = UUID.randomUUID();
+        UUID bun = UUID.randomUUID();
+        when(orderItemRepository.findTopSellingItems(any(), any(), any(), any()))
+                .thenReturn(List.of(new TopDishResponse(pho, "Pho Bo", 2L, BigDecimal.valueOf(100000))));
+        when(archivedOrderItemRepository.findTopSellingItems(any(), eq(OrderStatus.COMPLETED), any(), any(), any()))
+                .thenReturn(List.of(new TopDishResponse(bun, "Bun Cha", 4L, BigDecimal.valueOf(240000)),
+                        new TopDishResponse(pho, "Pho Bo", 3L, BigDecimal.valueOf(150000))));
+
+        // When
+        generatorService.generateDailyReports();
+
+        // Then
+        ArgumentCaptor<DailyReport> reports = ArgumentCaptor.forClass(DailyReport.class);
+        verify(dailyReportRepository, times(2)).save(reports.capture());
+        assertThat(reports.getAllValues()).allSatisfy(report -> {
+            assertThat(report.getTotalRevenue()).isEqualByComparingTo("300000");
+            assertThat(report.getTotalOrders()).isEqualTo(2);
+            assertThat(report.getTotalCustomers()).isEqualTo(3);
+            assertThat(report.getNewCustomers()).isEqualTo(2);
+            assertThat(report.getAvgPrepTime()).isEqualTo(7.0);
+            assertThat(report.getTopSellingItems()).startsWith("[{\"menuItemId\":\"" + pho + "\"")
+                    .contains("\"quantity\":5");
+        });
+    }
+
+    @Test
+    void generateDailyReports_ShouldSkipRestaurantsDoneBeforeResume() {
+        // Given
+        DailyReportRun run = run(LocalDateTime.now().minusHours(1));
+        when(runRepository.findByReportDate(yesterday)).thenReturn(Optional.of(run));
+        when(dailyReportRepository.findRestaurantIdsWrittenSince(yesterday, run.getStartedAt()))
+                .thenReturn(List.of(firstRestaurantId));
+
+        // When
+        generatorService.generateDailyReports();
+
+        // Then
+        verify(orderRepository, never()).summarizeDay(eq(firstRestaurantId), any(), any(), any());
+        verify(orderRepository).summarizeDay(eq(secondRestaurantId), any(), any(), any());
+        verify(runRepository, times(1)).incrementDone(run.getId());
+        verify(runRepository).finish(eq(run.getId()), eq(DailyReportRunStatus.COMPLETED), any());
+    }
+
+    @Test
+    void generateDailyReports_ShouldLeaveRunOpenWhenRestaurantFails() {
+        // Given
+        DailyReportRun run = run(LocalDateTime.now());
+        when(runRepository.findByReportDate(yesterday)).thenReturn(Optional.of(run));
+        when(dailyReportRepository.findRestaurantIdsWrittenSince(yesterday, run.getStartedAt()))
+                .thenReturn(List.of());
+        when(orderRepository.summarizeDay(eq(secondRestaurantId), eq(OrderStatus.COMPLETED), any(), any()))
+                .thenThrow(new IllegalStateException("Connection reset"));
+
+        // When
+        generatorService.generateDailyReports();
+
+        // Then
+        verify(runRepository, times(1)).incrementDone(run.getId());
+        verify(runRepository, never()).finish(any(), any(), any());
+    }
+
+    @Test
+    void generateDailyReports_ShouldNotRerunCompletedDate() {
+        // Given
+        DailyReportRun run = run(LocalDateTime.now());
+        run.setStatus(DailyReportRunStatus.COMPLETED);
+        when(runRepository.findByReportDate(yesterday)).thenReturn(Optional.of(run));
+
+        // When
+        generatorService.generateDailyReports();
+
+        // Then
+        verify(dailyReportRepository, never()).save(any());
+        verify(runRepository, never()).finish(any(), any(), any());
+    }
+
+    private DailyReportRun run(LocalDateTime startedAt) {
+        DailyReportRun run = DailyReportRun.builder()
+                .reportDate(yesterday)
+                .startedAt(startedAt)
+                .restaurantsTotal(2)
+                .build();
+        run.setId(UUID.randomUUID());
+        return run;
+    }
+}
@@ -3,16 +3,19 @@ package com.restaurantos.modules.analytics.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
@@ -20,13 +23,18 @@ import org.springframework.data.domain.Pageable;
 import com.restaurantos.modules.analytics.dto.response.DashboardSummaryResponse;
 import com.restaurantos.modules.analytics.dto.response.TopDishResponse;
 import com.restaurantos.modules.analytics.service.impl.DashboardServiceImpl;
+import com.restaurantos.modules.analytics.store.DashboardAggregateStore;
+import com.restaurantos.modules.inventory.event.IngredientStockChangedEvent;
 import com.restaurantos.modules.inventory.repository.IngredientRepository;
-import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
 import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
 import com.restaurantos.modules.order.repository.OrderItemRepository;
 import com.restaurantos.modules.order.repository.OrderRepository;
-import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.modules.order.repository.OrderTally;
 import com.restaurantos.modules.table.entity.TableStatus;
+import com.restaurantos.modules.table.event.TableStatusChangedEvent;
 import com.restaurantos.modules.table.repository.TableRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,56 +52,132 @@ class DashboardServiceTest {
     @Mock
     private TableRepository tableRepository;
 
-    @InjectMocks
-    private DashboardServiceImpl dashboardService;
+    private DashboardAggregateStore aggregateStore;
+    private DashboardService dashboardService;
 
     private UUID restaurantId;
+    private UUID pizzaId;
+    private OrderTally completedToday;
 
     @BeforeEach
     void setUp() {
         restaurantId = UUID.randomUUID();
+        pizzaId = UUID.randomUUID();
+        aggregateStore = new DashboardAggregateStore(orderRepository, orderItemRepository, ingredientRepository,
+                tableRepository, 15);
+        dashboardService = new DashboardServiceImpl(aggregateStore);
+
+        completedToday = new OrderTally(UUID.randomUUID(), LocalDateTime.now(), OrderStatus.COMPLETED,
+                BigDecimal.valueOf(500000));
+        when(orderRepository.findTallies(eq(restaurantId), any(), any())).thenReturn(List.of(completedToday));
+        when(orderItemRepository.findTopSellingItems(eq(restaurantId), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(TopDishResponse.builder()
+                        .menuItemId(pizzaId)
+                        .menuItemName("Pizza")
+                        .quantity(5L)
+                        .revenue(BigDecimal.valueOf(1000000))
+                        .build()));
+        when(ingredientRepository.findLowStockIdsByRestaurantId(restaurantId))
+                .thenReturn(Collections.emptyList());
+        when(tableRepository.findIdsByRestaurantIdAndStatus(restaurantId, TableStatus.OCCUPIED))
+                .thenReturn(List.of(UUID.randomUUID()));
     }
 
     @Test
-    void getSummary_ShouldReturnCorrectMetrics() {
-        // Given
-        Order order = Order.builder()
-                .totalAmount(BigDecimal.valueOf(500000))
-                .status(OrderStatus.COMPLETED)
-                .build();
+    void getSummary_ShouldRebuildFromDatabaseOnFirstRead() {
+        // When
+        DashboardSummaryResponse response = dashboardService.getSummary(restaurantId);
 
-        when(orderRepository.findByRestaurantIdAndCreatedAtBetween(eq(restaurantId), any(), any()))
-                .thenReturn(Collections.singletonList(order)) // Today
-                .thenReturn(Collections.emptyList()); // Yesterday
+        // Then
+        assertThat(response.getTodayRevenue()).isEqualByComparingTo(BigDecimal.valueOf(500000));
+        assertThat(response.getTodayOrders()).isEqualTo(1);
+        assertThat(response.getTopDishes()).hasSize(1);
+        assertThat(response.getTopDishes().get(0).getMenuItemName()).isEqualTo("Pizza");
+        assertThat(response.getActiveTablesCount()).isEqualTo(1);
+        assertThat(response.getLowStockAlertsCount()).isEqualTo(0);
+    }
 
-        TopDishResponse topDish = TopDishResponse.builder()
-                .menuItemName("Pizza")
-                .quantity(5L)
-                .revenue(BigDecimal.valueOf(1000000))
+    @Test
+    void getSummary_ShouldApplyEventsWithoutQueryingAgain() {
+        // Given
+        dashboardService.getSummary(restaurantId);
+        OrderResponse order = OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .status(OrderStatus.PENDING)
+                .totalAmount(BigDecimal.valueOf(200000))
+                .createdAt(LocalDateTime.now())
+                .items(List.of(OrderResponse.OrderItemResponse.builder()
+                        .menuItemId(pizzaId)
+                        .itemName("Pizza")
+                        .quantity(2)
+                        .subtotal(BigDecimal.valueOf(200000))
+                        .build()))
                 .build();
 
-        when(orderItemRepository.findTopSellingItems(eq(restaurantId), any(), any(), any(Pageable.class)))
-                .thenReturn(Collections.singletonList(topDish));
+        // When
+        aggregateStore.onOrderCreated(new OrderCreatedEvent(restaurantId, order));
+        order.setStatus(OrderStatus.COMPLETED);
+        aggregateStore.onOrderStatusChanged(new OrderStatusChangedEvent(restaurantId, OrderStatus.READY, order));
+        aggregateStore.onTableStatusChanged(new TableStatusChangedEvent(restaurantId, UUID.randomUUID(),
+                TableStatus.OCCUPIED));
+        aggregateStore.onIngredientStockChanged(new IngredientStockChangedEvent(restaurantId, UUID.randomUUID(),
+                true));
+        DashboardSummaryResponse response = dashboardService.getSummary(restaurantId);
 
-        when(ingredientRepository.findByRestaurantIdAndCurrentStockLessThanMinStock(restaurantId))
-                .thenReturn(Collections.emptyList());
+        // Then
+        assertThat(response.getTodayRevenue()).isEqualByComparingTo(BigDecimal.valueOf(700000));
+        assertThat(response.getTodayOrders()).isEqualTo(2);
+        assertThat(response.getTopDishes().get(0).getQuantity()).isEqualTo(7L);
+        assertThat(response.getActiveTablesCount()).isEqualTo(2);
+        assertThat(response.getLowStockAlertsCount()).isEqualTo(1);
+        verify(orderRepository, times(1)).findTallies(eq(restaurantId), any(), any());
+    }
 
-        RestaurantTable table = RestaurantTable.builder()
-                .status(TableStatus.OCCUPIED)
+    @Test
+    void lateEvent_ShouldNotCountAnOrderTheRebuildAlreadyCounted() {
+        // Given
+        dashboardService.getSummary(restaurantId);
+        OrderResponse order = OrderResponse.builder()
+                .id(completedToday.id())
+                .status(OrderStatus.COMPLETED)
+                .totalAmount(completedToday.totalAmount())
+                .createdAt(completedToday.createdAt())
+                .items(List.of())
                 .build();
 
-        when(tableRepository.findByRestaurantIdOrderByTableNumberAsc(restaurantId))
-                .thenReturn(Collections.singletonList(table));
-
         // When
+        aggregateStore.onOrderCreated(new OrderCreatedEvent(restaurantId, order));
+        aggregateStore.onOrderStatusChanged(new OrderStatusChangedEvent(restaurantId, OrderStatus.READY, order));
         DashboardSummaryResponse response = dashboardService.getSummary(restaurantId);
 
         // Then
         assertThat(response.getTodayRevenue()).isEqualByComparingTo(BigDecimal.valueOf(500000));
         assertThat(response.getTodayOrders()).isEqualTo(1);
-        assertThat(response.getTopDishes()).hasSize(1);
-        assertThat(response.getTopDishes().get(0).getMenuItemName()).isEqualTo("Pizza");
-        assertThat(response.getActiveTablesCount()).isEqualTo(1);
-        assertThat(response.getLowStockAlertsCount()).isEqualTo(0);
+    }
+
+    @Test
+    void rebuild_ShouldReplayEventsCommittedWhileLoading() {
+        // Given
+        dashboardService.getSummary(restaurantId);
+        OrderResponse order = OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .status(OrderStatus.COMPLETED)
+                .totalAmount(BigDecimal.valueOf(200000))
+                .createdAt(LocalDateTime.now())
+                .items(List.of())
+                .build();
+        // Committed after the orders were read, while the rest of the rebuild is still loading
+        when(ingredientRepository.findLowStockIdsByRestaurantId(restaurantId)).thenAnswer(invocation -> {
+            aggregateStore.onOrderCreated(new OrderCreatedEvent(restaurantId, order));
+            return List.of();
+        });
+
+        // When
+        aggregateStore.rebuild(restaurantId);
+        DashboardSummaryResponse response = dashboardService.getSummary(restaurantId);
+
+        // Then
+        assertThat(response.getTodayRevenue()).isEqualByComparingTo(BigDecimal.valueOf(700000));
+        assertThat(response.getTodayOrders()).isEqualTo(2);
     }
 }
@@ -0,0 +1,77 @@
+package com.restaurantos.modules.analytics.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.restaurantos.modules.analytics.entity.DailyReport;
+import com.restaurantos.modules.analytics.repository.DailyReportRepository;
+import com.restaurantos.modules.analytics.service.impl.ReportServiceImpl;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+
+/**
+ * CSV export of daily reports with the repository stubbed, for a month and
+ * for a year of rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReportExportBenchmark {
+
+    @Param({ "31", "365" })
+    public int days;
+
+    private ReportService reportService;
+    private UUID restaurantId;
+
+    @Setup
+    public void setUp() {
+        restaurantId = UUID.randomUUID();
+        List<DailyReport> reports = new ArrayList<>(days);
+        LocalDate date = LocalDate.now().minusDays(days);
+        for (int i = 0; i < days; i++) {
+            reports.add(DailyReport.builder()
+                    .reportDate(date.plusDays(i))
+                    .totalRevenue(BigDecimal.valueOf(12_500_000L + i))
+                    .totalOrders(150 + i)
+                    .build());
+        }
+
+        DailyReportRepository dailyReportRepository = stub(DailyReportRepository.class);
+        when(dailyReportRepository.findByRestaurantIdAndReportDateBetween(eq(restaurantId), any(), any()))
+                .thenReturn(reports);
+        reportService = new ReportServiceImpl(dailyReportRepository, stub(OrderItemRepository.class));
+    }
+
+    @Benchmark
+    public byte[] exportCsv() {
+        return reportService.exportReport(restaurantId, "csv");
+    }
+
+    // Records no invocations, unlike a default mock
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
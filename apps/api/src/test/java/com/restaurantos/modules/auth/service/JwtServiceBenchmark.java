@@ -0,0 +1,96 @@
+package com.restaurantos.modules.auth.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.restaurantos.modules.auth.entity.User;
+import com.restaurantos.modules.auth.entity.UserRole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token generation, and tokens verified per second by the previous
+ * {@code JwtService} code path (decode the key and build a parser for every
+ * extraction, three extractions per request) against the shared parser and
+ * the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L, 10_000);
+        user = User.builder()
+                .username("bench")
+                .role(UserRole.OWNER)
+                .build();
+        user.setId(UUID.randomUUID());
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    /**
+     * Username extraction, subject check and expiry check, each decoding the
+     * key and building a parser, as every request used to do.
+     */
+    @Benchmark
+    public boolean perRequestKeyAndParser() {
+        String username = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(username)
+                && legacyParse(token).getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    /**
+     * One signature check with the shared key and parser, as on a cache miss.
+     */
+    @Benchmark
+    public String sharedParser() {
+        return jwtService.extractClaim(token, Claims::getSubject);
+    }
+
+    /**
+     * A token that was verified before, served from the cache.
+     */
+    @Benchmark
+    public Object cachedVerification() {
+        return jwtService.verifyToken(token);
+    }
+
+    private static Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
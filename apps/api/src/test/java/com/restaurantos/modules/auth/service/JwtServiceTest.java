@@ -2,27 +2,35 @@ package com.restaurantos.modules.auth.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
+import java.util.UUID;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import com.restaurantos.modules.auth.entity.User;
 import com.restaurantos.modules.auth.entity.UserRole;
+import com.restaurantos.modules.auth.security.AuthenticatedUser;
+import com.restaurantos.modules.auth.security.VerifiedToken;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+
+import io.jsonwebtoken.JwtException;
 
 class JwtServiceTest {
 
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
     private JwtService jwtService;
     private User user;
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        ReflectionTestUtils.setField(jwtService, "secretKey",
-                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3600000L); // 1 hour
+        jwtService = new JwtService(SECRET, 3600000L, 100); // 1 hour
 
         user = User.builder()
                 .username("testuser")
@@ -50,11 +58,64 @@ class JwtServiceTest {
     @Test
     void testTokenExpiration() {
         // Small expiration for testing
-        ReflectionTestUtils.setField(jwtService, "jwtExpiration", -1000L);
+        jwtService = new JwtService(SECRET, -1000L, 100);
         String token = jwtService.generateToken(user);
 
         // Validation should fail or throw exception depending on library
         // JJWT parser throws ExpiredJwtException when parsing expired token
         assertThrows(Exception.class, () -> jwtService.isTokenValid(token, user));
     }
+
+    @Test
+    void testVerifyTokenCarriesIdentityClaims() {
+        UUID restaurantId = UUID.randomUUID();
+        Restaurant restaurant = Restaurant.builder().name("Test Rest").build();
+        restaurant.setId(restaurantId);
+        user.setId(UUID.randomUUID());
+        user.setRestaurant(restaurant);
+
+        String token = jwtService.generateToken(user);
+        VerifiedToken verified = jwtService.verifyToken(token);
+
+        AuthenticatedUser principal = verified.user();
+        assertNotNull(principal);
+        assertEquals(user.getId(), principal.id());
+        assertEquals("testuser", principal.username());
+        assertEquals(UserRole.OWNER, principal.role());
+        assertEquals(restaurantId, principal.restaurantId());
+        assertSame(verified, jwtService.verifyToken(token));
+    }
+
+    @Test
+    void testVerifyTokenWithoutIdentityClaims() {
+        String token = jwtService.generateToken(new HashMap<>(), user);
+
+        VerifiedToken verified = jwtService.verifyToken(token);
+
+        assertEquals("testuser", verified.subject());
+        assertNull(verified.user());
+    }
+
+    @Test
+    void testRevokedTokenIsRejected() {
+        user.setId(UUID.randomUUID());
+        String token = jwtService.generateToken(user);
+        jwtService.verifyToken(token);
+
+        jwtService.revokeTokens(user.getId());
+
+        assertThrows(JwtException.class, () -> jwtService.verifyToken(token));
+    }
+
+    @Test
+    void testTokenIssuedRightAfterRevocationIsAccepted() throws InterruptedException {
+        user.setId(UUID.randomUUID());
+        jwtService.revokeTokens(user.getId());
+        // Log back in within the same second, but a later millisecond
+        Thread.sleep(2);
+
+        String token = jwtService.generateToken(user);
+
+        assertEquals(user.getId(), jwtService.verifyToken(token).user().id());
+    }
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.restaurantos.modules.inventory.dto.request.IngredientRequest;
 import com.restaurantos.modules.inventory.dto.request.StockAdjustmentRequest;
@@ -22,6 +23,7 @@ import com.restaurantos.modules.inventory.dto.response.IngredientResponse;
 import com.restaurantos.modules.inventory.entity.AdjustmentType;
 import com.restaurantos.modules.inventory.entity.Ingredient;
 import com.restaurantos.modules.inventory.entity.InventoryHistory;
+import com.restaurantos.modules.inventory.event.IngredientStockChangedEvent;
 import com.restaurantos.modules.inventory.repository.IngredientRepository;
 import com.restaurantos.modules.inventory.repository.InventoryHistoryRepository;
 import com.restaurantos.modules.inventory.service.impl.IngredientServiceImpl;
@@ -40,6 +42,9 @@ class IngredientServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private IngredientServiceImpl ingredientService;
 
@@ -88,6 +93,7 @@ class IngredientServiceTest {
         Ingredient ingredient = Ingredient.builder()
                 .name("Tomato")
                 .currentStock(BigDecimal.TEN)
+                .restaurant(restaurant)
                 .build();
         ingredient.setId(ingredientId);
 
@@ -107,5 +113,6 @@ class IngredientServiceTest {
         assertThat(response.getCurrentStock()).isEqualByComparingTo(BigDecimal.valueOf(15));
         verify(historyRepository).save(any(InventoryHistory.class));
         verify(ingredientRepository).save(ingredient);
+        verify(eventPublisher).publishEvent(any(IngredientStockChangedEvent.class));
     }
 }
@@ -0,0 +1,127 @@
+package com.restaurantos.modules.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.restaurantos.modules.inventory.entity.AdjustmentType;
+import com.restaurantos.modules.inventory.entity.Ingredient;
+import com.restaurantos.modules.inventory.entity.InventoryHistory;
+import com.restaurantos.modules.inventory.event.IngredientStockChangedEvent;
+import com.restaurantos.modules.inventory.repository.IngredientRepository;
+import com.restaurantos.modules.inventory.repository.IngredientUsage;
+import com.restaurantos.modules.inventory.repository.InventoryHistoryRepository;
+import com.restaurantos.modules.inventory.repository.RecipeIngredientRepository;
+import com.restaurantos.modules.inventory.service.impl.InventoryDeductionServiceImpl;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryDeductionServiceTest {
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private InventoryHistoryRepository historyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private InventoryDeductionServiceImpl deductionService;
+
+    @Captor
+    private ArgumentCaptor<List<InventoryHistory>> historyCaptor;
+
+    private UUID orderId;
+    private Ingredient beef;
+    private Ingredient noodles;
+
+    @BeforeEach
+    void setUp() {
+        orderId = UUID.randomUUID();
+        Restaurant restaurant = Restaurant.builder()
+                .name("Test Resto")
+                .slug("test-resto")
+                .build();
+        restaurant.setId(UUID.randomUUID());
+
+        beef = Ingredient.builder()
+                .name("Beef")
+                .unit("kg")
+                .currentStock(BigDecimal.valueOf(5))
+                .minStock(BigDecimal.ONE)
+                .restaurant(restaurant)
+                .build();
+        beef.setId(UUID.randomUUID());
+        noodles = Ingredient.builder()
+                .name("Noodles")
+                .unit("kg")
+                .currentStock(BigDecimal.valueOf(2))
+                .minStock(BigDecimal.ONE)
+                .restaurant(restaurant)
+                .build();
+        noodles.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void deductInventoryForOrder_ShouldApplyAggregatedUsageInOneBatch() {
+        // Given
+        when(recipeIngredientRepository.sumIngredientUsageByOrderId(orderId)).thenReturn(List.of(
+                new IngredientUsage(beef.getId(), new BigDecimal("0.6")),
+                new IngredientUsage(noodles.getId(), new BigDecimal("1.5"))));
+        when(ingredientRepository.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(beef, noodles));
+
+        // When
+        deductionService.deductInventoryForOrder(orderId);
+
+        // Then
+        assertThat(beef.getCurrentStock()).isEqualByComparingTo("4.4");
+        assertThat(noodles.getCurrentStock()).isEqualByComparingTo("0.5");
+        verify(ingredientRepository).saveAll(List.of(beef, noodles));
+        verify(ingredientRepository, never()).findById(any());
+        verify(historyRepository).saveAll(historyCaptor.capture());
+        assertThat(historyCaptor.getValue())
+                .hasSize(2)
+                .allMatch(history -> history.getAdjustmentType() == AdjustmentType.AUTO_DEDUCTION)
+                .extracting(InventoryHistory::getUsageQuantity)
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactly(new BigDecimal("-0.6"), new BigDecimal("-1.5"));
+        verify(eventPublisher, times(2)).publishEvent(any(IngredientStockChangedEvent.class));
+    }
+
+    @Test
+    void deductInventoryForOrder_WithoutRecipes_ShouldNotTouchStock() {
+        // Given
+        when(recipeIngredientRepository.sumIngredientUsageByOrderId(orderId)).thenReturn(Collections.emptyList());
+
+        // When
+        deductionService.deductInventoryForOrder(orderId);
+
+        // Then
+        verifyNoInteractions(ingredientRepository, historyRepository, eventPublisher);
+    }
+}
@@ -100,7 +100,7 @@ class RecipeServiceTest {
                 .build();
 
         when(menuItemRepository.findById(menuItemId)).thenReturn(Optional.of(menuItem));
-        when(ingredientRepository.findById(ingredientId)).thenReturn(Optional.of(ingredient));
+        when(ingredientRepository.findAllById(any())).thenReturn(List.of(ingredient));
 
         // When
         recipeService.saveRecipe(menuItemId, request);
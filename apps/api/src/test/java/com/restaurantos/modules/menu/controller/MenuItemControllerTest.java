@@ -5,17 +5,21 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -28,6 +32,7 @@ import com.restaurantos.modules.auth.service.JwtService;
 import com.restaurantos.modules.menu.dto.request.MenuItemRequest;
 import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
 import com.restaurantos.modules.menu.service.MenuItemService;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
 import com.restaurantos.shared.config.SecurityConfig;
 
 @WebMvcTest(MenuItemController.class)
@@ -54,11 +59,43 @@ class MenuItemControllerTest {
     @WithMockUser(roles = "OWNER")
     void getAll_ShouldReturnItems() throws Exception {
         UUID restaurantId = UUID.randomUUID();
-        when(menuItemService.getAll(eq(restaurantId), any())).thenReturn(Collections.emptyList());
+        MenuItemResponse pho = MenuItemResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Pho")
+                .categoryId(UUID.randomUUID())
+                .build();
+        when(menuItemService.getMenu(restaurantId))
+                .thenReturn(new MenuSnapshot(restaurantId, List.of(), List.of(pho), objectMapper));
 
         mockMvc.perform(get("/api/restaurants/{restaurantId}/items", restaurantId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].name").value("Pho"));
+    }
+
+    @Test
+    @WithMockUser(roles = "OWNER")
+    void getAll_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+        UUID restaurantId = UUID.randomUUID();
+        MenuSnapshot menu = new MenuSnapshot(restaurantId, List.of(), List.of(), objectMapper);
+        when(menuItemService.getMenu(restaurantId)).thenReturn(menu);
+
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/items", restaurantId)
+                .header(HttpHeaders.IF_NONE_MATCH, menu.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, menu.getETag()));
+    }
+
+    @Test
+    @WithMockUser(roles = "OWNER")
+    void getById_WhenNotInMenu_ShouldReturnNotFound() throws Exception {
+        UUID restaurantId = UUID.randomUUID();
+        when(menuItemService.getMenu(restaurantId))
+                .thenReturn(new MenuSnapshot(restaurantId, List.of(), List.of(), objectMapper));
+
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/items/{id}", restaurantId, UUID.randomUUID()))
+                .andExpect(status().isNotFound());
     }
 
     @Test
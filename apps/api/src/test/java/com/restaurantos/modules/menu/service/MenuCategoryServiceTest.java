@@ -14,12 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.restaurantos.modules.menu.dto.request.CategoryRequest;
 import com.restaurantos.modules.menu.dto.response.CategoryResponse;
 import com.restaurantos.modules.menu.entity.MenuCategory;
 import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
 import com.restaurantos.modules.menu.service.impl.MenuCategoryServiceImpl;
+import com.restaurantos.modules.menu.store.MenuSnapshotStore;
 import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 
@@ -32,6 +34,12 @@ class MenuCategoryServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private MenuSnapshotStore menuSnapshotStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuCategoryServiceImpl categoryService;
 
@@ -7,27 +7,36 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.restaurantos.modules.menu.dto.request.MenuItemRequest;
 import com.restaurantos.modules.menu.dto.response.MenuItemResponse;
 import com.restaurantos.modules.menu.entity.MenuCategory;
 import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.menu.event.MenuChangedEvent;
 import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
 import com.restaurantos.modules.menu.repository.MenuItemRepository;
 import com.restaurantos.modules.menu.service.impl.MenuItemServiceImpl;
+import com.restaurantos.modules.menu.store.MenuSnapshot;
+import com.restaurantos.modules.menu.store.MenuSnapshotStore;
 import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.modules.restaurant.service.FileStorageService;
@@ -51,6 +60,12 @@ class MenuItemServiceTest {
     @Mock
     private WebSocketService webSocketService;
 
+    @Mock
+    private MenuSnapshotStore menuSnapshotStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuItemServiceImpl menuItemService;
 
@@ -132,6 +147,7 @@ class MenuItemServiceTest {
         // Given
         UUID itemId = UUID.randomUUID();
         MenuItem item = MenuItem.builder()
+                .restaurant(restaurant)
                 .category(category)
                 .isActive(true)
                 .build();
@@ -145,5 +161,52 @@ class MenuItemServiceTest {
         // Then
         assertThat(item.getIsActive()).isFalse();
         verify(menuItemRepository).save(item);
+        verify(eventPublisher).publishEvent(any(MenuChangedEvent.class));
+    }
+
+    @Test
+    void getAll_ShouldReadFromMenuSnapshot() {
+        // Given
+        MenuItemResponse pho = MenuItemResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Pho")
+                .categoryId(categoryId)
+                .build();
+        MenuSnapshot snapshot = new MenuSnapshot(restaurantId, List.of(), List.of(pho),
+                new ObjectMapper().findAndRegisterModules());
+        when(menuSnapshotStore.get(restaurantId)).thenReturn(snapshot);
+
+        // When
+        List<MenuItemResponse> all = menuItemService.getAll(restaurantId, null);
+        List<MenuItemResponse> otherCategory = menuItemService.getAll(restaurantId, UUID.randomUUID());
+
+        // Then
+        assertThat(all).containsExactly(pho);
+        assertThat(otherCategory).isEmpty();
+        verifyNoInteractions(menuItemRepository);
+    }
+
+    @Test
+    void toggleAvailability_ShouldPublishMenuChanged() {
+        // Given
+        UUID itemId = UUID.randomUUID();
+        MenuItem item = MenuItem.builder()
+                .restaurant(restaurant)
+                .category(category)
+                .isActive(true)
+                .isAvailable(true)
+                .build();
+        item.setId(itemId);
+
+        when(menuItemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(menuItemRepository.save(any(MenuItem.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        // When
+        menuItemService.toggleAvailability(itemId);
+
+        // Then
+        ArgumentCaptor<MenuChangedEvent> event = ArgumentCaptor.forClass(MenuChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getRestaurantId()).isEqualTo(restaurantId);
     }
 }
@@ -0,0 +1,129 @@
+package com.restaurantos.modules.menu.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.menu.event.MenuChangedEvent;
+import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotStoreTest {
+
+    @Mock
+    private MenuCategoryRepository categoryRepository;
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    private MenuSnapshotStore store;
+    private UUID restaurantId;
+    private MenuCategory category;
+
+    @BeforeEach
+    void setUp() {
+        store = new MenuSnapshotStore(categoryRepository, menuItemRepository,
+                new ObjectMapper().findAndRegisterModules(), 2);
+        restaurantId = UUID.randomUUID();
+        category = MenuCategory.builder().name("Noodles").build();
+        category.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void get_ShouldBuildOnceAndServeFromCache() {
+        // Given
+        MenuItem pho = MenuItem.builder().name("Pho").price(BigDecimal.TEN).category(category).build();
+        pho.setId(UUID.randomUUID());
+        when(categoryRepository.findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId))
+                .thenReturn(List.of(category));
+        when(menuItemRepository.findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId))
+                .thenReturn(List.of(pho));
+
+        // When
+        MenuSnapshot first = store.get(restaurantId);
+        MenuSnapshot second = store.get(restaurantId);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getItems(category.getId())).hasSize(1);
+        assertThat(new String(first.getItemJson(pho.getId()), StandardCharsets.UTF_8)).contains("\"Pho\"");
+        assertThat(new String(first.getCategoriesJson(), StandardCharsets.UTF_8)).contains("\"Noodles\"");
+        verify(menuItemRepository, times(1)).findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId);
+    }
+
+    @Test
+    void onMenuChanged_ShouldRebuildWithNewETag() {
+        // Given
+        MenuItem pho = MenuItem.builder().name("Pho").price(BigDecimal.TEN).category(category).build();
+        pho.setId(UUID.randomUUID());
+        when(menuItemRepository.findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId))
+                .thenReturn(List.of(), List.of(pho));
+        MenuSnapshot before = store.get(restaurantId);
+
+        // When
+        store.onMenuChanged(new MenuChangedEvent(restaurantId));
+        MenuSnapshot after = store.get(restaurantId);
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+        verify(menuItemRepository, times(2)).findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId);
+    }
+
+    @Test
+    void get_ShouldTagTheSameMenuAlikeOnEveryNode() {
+        // Given
+        MenuItem pho = MenuItem.builder().name("Pho").price(BigDecimal.TEN).category(category).build();
+        pho.setId(UUID.randomUUID());
+        when(menuItemRepository.findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId))
+                .thenReturn(List.of(pho));
+        MenuSnapshotStore otherNode = new MenuSnapshotStore(categoryRepository, menuItemRepository,
+                new ObjectMapper().findAndRegisterModules(), 2);
+
+        // When
+        MenuSnapshot here = store.get(restaurantId);
+        MenuSnapshot there = otherNode.get(restaurantId);
+
+        // Then
+        assertThat(there).isNotSameAs(here);
+        assertThat(there.getETag()).isEqualTo(here.getETag()).startsWith("W/\"");
+    }
+
+    @Test
+    void get_WhenFull_ShouldEvictLeastRecentlyRead() {
+        // Given
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        store.get(restaurantId);
+        store.get(second);
+        store.get(restaurantId);
+
+        // When
+        store.get(third);
+        store.get(restaurantId);
+        store.get(second);
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        verify(menuItemRepository, times(1)).findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(restaurantId);
+        verify(menuItemRepository, times(2)).findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(second);
+        verify(categoryRepository, times(4)).findByRestaurantIdAndIsActiveTrueOrderByDisplayOrderAsc(any());
+    }
+}
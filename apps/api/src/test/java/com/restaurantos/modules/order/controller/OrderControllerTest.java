@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -25,14 +26,17 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurantos.modules.auth.service.JwtService;
+import com.restaurantos.modules.order.dto.request.BulkUpdateOrderItemStatusRequest;
 import com.restaurantos.modules.order.dto.request.CreateOrderRequest;
 import com.restaurantos.modules.order.dto.request.UpdateOrderStatusRequest;
 import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.OrderItemStatus;
 import com.restaurantos.modules.order.entity.OrderStatus;
 import com.restaurantos.modules.order.service.OrderItemService;
 import com.restaurantos.modules.order.service.OrderService;
 import com.restaurantos.modules.payment.entity.PaymentMethod;
 import com.restaurantos.shared.config.SecurityConfig;
+import com.restaurantos.shared.dto.CursorPage;
 
 @WebMvcTest(OrderController.class)
 @Import(SecurityConfig.class)
@@ -60,18 +64,28 @@ class OrderControllerTest {
 
     @Test
     @WithMockUser(roles = "STAFF")
-    void getAll_ShouldReturnList() throws Exception {
+    void getAll_ShouldReturnPage() throws Exception {
         UUID restaurantId = UUID.randomUUID();
         OrderResponse response = OrderResponse.builder()
                 .orderNumber("2602160001")
                 .status(OrderStatus.PENDING)
                 .build();
+        CursorPage<OrderResponse> page = CursorPage.<OrderResponse>builder()
+                .items(Collections.singletonList(response))
+                .nextCursor("next")
+                .hasMore(true)
+                .build();
 
-        when(orderService.getAll(eq(restaurantId), any())).thenReturn(Collections.singletonList(response));
+        when(orderService.getPage(eq(restaurantId), eq(OrderStatus.PENDING), eq("abc"), eq(20))).thenReturn(page);
 
-        mockMvc.perform(get("/api/restaurants/{restaurantId}/orders", restaurantId))
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/orders", restaurantId)
+                .param("status", "PENDING")
+                .param("cursor", "abc")
+                .param("size", "20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].orderNumber").value("2602160001"));
+                .andExpect(jsonPath("$.data.items[0].orderNumber").value("2602160001"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
     }
 
     @Test
@@ -122,4 +136,42 @@ class OrderControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.status").value("PREPARING"));
     }
+
+    @Test
+    @WithMockUser(roles = "KITCHEN")
+    void updateItemStatuses_ShouldReturnAffectedOrders() throws Exception {
+        UUID restaurantId = UUID.randomUUID();
+        BulkUpdateOrderItemStatusRequest request = BulkUpdateOrderItemStatusRequest.builder()
+                .itemIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .status(OrderItemStatus.READY)
+                .build();
+
+        OrderResponse response = OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .status(OrderStatus.READY)
+                .build();
+
+        when(orderItemService.updateStatuses(eq(restaurantId), any(BulkUpdateOrderItemStatusRequest.class)))
+                .thenReturn(List.of(response));
+
+        mockMvc.perform(put("/api/restaurants/{restaurantId}/order-items/status", restaurantId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("READY"));
+    }
+
+    @Test
+    @WithMockUser(roles = "KITCHEN")
+    void updateItemStatuses_ShouldRejectEmptyBatch() throws Exception {
+        BulkUpdateOrderItemStatusRequest request = BulkUpdateOrderItemStatusRequest.builder()
+                .itemIds(List.of())
+                .status(OrderItemStatus.READY)
+                .build();
+
+        mockMvc.perform(put("/api/restaurants/{restaurantId}/order-items/status", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
 }
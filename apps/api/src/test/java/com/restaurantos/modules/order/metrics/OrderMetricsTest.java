@@ -0,0 +1,105 @@
+package com.restaurantos.modules.order.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.repository.PlanOrderCount;
+import com.restaurantos.modules.restaurant.entity.SubscriptionPlan;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrderMetricsTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderMetrics orderMetrics;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        meterRegistry = new SimpleMeterRegistry();
+        orderMetrics = new OrderMetrics(meterRegistry, restaurantRepository, orderRepository);
+    }
+
+    @Test
+    void onOrderCreated_ShouldCountByPlanAndLookUpPlanOnce() {
+        // Given
+        when(restaurantRepository.findPlanById(restaurantId)).thenReturn(Optional.of(SubscriptionPlan.PRO));
+        OrderResponse order = OrderResponse.builder().id(UUID.randomUUID()).status(OrderStatus.PENDING).build();
+
+        // When
+        orderMetrics.onOrderCreated(new OrderCreatedEvent(restaurantId, order));
+        orderMetrics.onOrderCreated(new OrderCreatedEvent(restaurantId, order));
+
+        // Then
+        assertThat(meterRegistry.get("restaurantos.orders.created").tag("plan", "PRO").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("restaurantos.orders.created").tag("plan", "FREE").counter().count())
+                .isZero();
+        verify(restaurantRepository, times(1)).findPlanById(restaurantId);
+    }
+
+    @Test
+    void onOrderStatusChanged_ShouldCountOnlyTransitionsIntoCompleted() {
+        // Given
+        when(restaurantRepository.findPlanById(restaurantId)).thenReturn(Optional.of(SubscriptionPlan.STARTER));
+        OrderResponse completed = OrderResponse.builder().id(UUID.randomUUID()).status(OrderStatus.COMPLETED).build();
+        OrderResponse ready = OrderResponse.builder().id(UUID.randomUUID()).status(OrderStatus.READY).build();
+
+        // When
+        orderMetrics.onOrderStatusChanged(new OrderStatusChangedEvent(restaurantId, OrderStatus.READY, completed));
+        orderMetrics.onOrderStatusChanged(new OrderStatusChangedEvent(restaurantId, OrderStatus.COMPLETED,
+                completed));
+        orderMetrics.onOrderStatusChanged(new OrderStatusChangedEvent(restaurantId, OrderStatus.PREPARING, ready));
+
+        // Then
+        assertThat(meterRegistry.get("restaurantos.orders.completed").tag("plan", "STARTER").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void openOrdersGauge_ShouldReportCountsPerPlanFromOneQuery() {
+        // Given
+        when(orderRepository.countByPlanAndStatusIn(any()))
+                .thenReturn(List.of(new PlanOrderCount(SubscriptionPlan.FREE, 3L),
+                        new PlanOrderCount(SubscriptionPlan.ENTERPRISE, 12L)));
+
+        // When
+        double free = meterRegistry.get("restaurantos.orders.open").tag("plan", "FREE").gauge().value();
+        double enterprise = meterRegistry.get("restaurantos.orders.open").tag("plan", "ENTERPRISE").gauge().value();
+        double pro = meterRegistry.get("restaurantos.orders.open").tag("plan", "PRO").gauge().value();
+
+        // Then
+        assertThat(free).isEqualTo(3);
+        assertThat(enterprise).isEqualTo(12);
+        assertThat(pro).isZero();
+        verify(orderRepository, times(1)).countByPlanAndStatusIn(any());
+    }
+}
@@ -6,19 +6,26 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
 import com.restaurantos.modules.order.entity.OrderStatus;
 import com.restaurantos.modules.payment.entity.PaymentMethod;
 import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.restaurant.entity.SubscriptionPlan;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.shared.config.JpaConfig;
 
@@ -33,6 +40,9 @@ class OrderRepositoryTest {
         @Autowired
         private RestaurantRepository restaurantRepository;
 
+        @Autowired
+        private TestEntityManager entityManager;
+
         private Restaurant restaurant;
 
         @BeforeEach
@@ -101,4 +111,129 @@ class OrderRepositoryTest {
                 // Then
                 assertThat(count).isEqualTo(1);
         }
+
+        @Test
+        void keysetPagination_ShouldWalkAllOrdersNewestFirstWithoutGaps() {
+                // Given
+                for (int i = 1; i <= 7; i++) {
+                        orderRepository.save(Order.builder()
+                                        .restaurant(restaurant)
+                                        .orderNumber("260216000" + i)
+                                        .status(OrderStatus.PENDING)
+                                        .subtotal(BigDecimal.TEN)
+                                        .totalAmount(BigDecimal.TEN)
+                                        .paymentMethod(PaymentMethod.CASH)
+                                        .build());
+                }
+                // Reload so timestamps carry the precision stored in the database
+                entityManager.flush();
+                entityManager.clear();
+                List<Order> expected = orderRepository.findByRestaurantIdOrderByCreatedAtDesc(restaurant.getId())
+                                .stream()
+                                .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId)
+                                                .reversed())
+                                .toList();
+
+                // When
+                List<Order> walked = new ArrayList<>(orderRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(
+                                restaurant.getId(), Limit.of(3)));
+                while (walked.size() < expected.size()) {
+                        Order last = walked.get(walked.size() - 1);
+                        List<Order> page = orderRepository.findNextPage(restaurant.getId(), last.getCreatedAt(),
+                                        last.getId(), Limit.of(3));
+                        assertThat(page).isNotEmpty();
+                        walked.addAll(page);
+                }
+
+                // Then
+                assertThat(walked).extracting(Order::getId)
+                                .containsExactlyElementsOf(expected.stream().map(Order::getId).toList());
+        }
+
+        @Test
+        void countByPlanAndStatusIn_ShouldGroupOpenOrdersByRestaurantPlan() {
+                // Given
+                Restaurant proRestaurant = restaurantRepository.save(Restaurant.builder()
+                                .name("Pro Resto")
+                                .slug("pro-resto")
+                                .plan(SubscriptionPlan.PRO)
+                                .build());
+                OrderStatus[] statuses = { OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.COMPLETED };
+                for (int i = 0; i < statuses.length; i++) {
+                        orderRepository.save(Order.builder()
+                                        .restaurant(i == 0 ? restaurant : proRestaurant)
+                                        .orderNumber("260216000" + i)
+                                        .status(statuses[i])
+                                        .subtotal(BigDecimal.TEN)
+                                        .totalAmount(BigDecimal.TEN)
+                                        .paymentMethod(PaymentMethod.CASH)
+                                        .build());
+                }
+
+                // When
+                List<PlanOrderCount> counts = orderRepository.countByPlanAndStatusIn(
+                                EnumSet.complementOf(EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED)));
+
+                // Then
+                assertThat(counts).containsExactlyInAnyOrder(
+                                new PlanOrderCount(SubscriptionPlan.FREE, 1L),
+                                new PlanOrderCount(SubscriptionPlan.PRO, 1L));
+        }
+
+        @Test
+        void summarizeDay_ShouldAggregateRevenueCustomersAndPrepTimeInOneQuery() {
+                // Given
+                LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
+                LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
+                Order earlier = orderRepository.save(order("2602150001", OrderStatus.COMPLETED, "0900000001"));
+                entityManager.getEntityManager()
+                                .createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id = :id")
+                                .setParameter("createdAt", startOfDay.minusDays(3))
+                                .setParameter("id", earlier.getId())
+                                .executeUpdate();
+
+                Order returning = order("2602160001", OrderStatus.COMPLETED, "0900000001");
+                returning.addItem(item(startOfDay.plusHours(12), startOfDay.plusHours(12).plusMinutes(6)));
+                returning.addItem(item(startOfDay.plusHours(12), startOfDay.plusHours(12).plusMinutes(10)));
+                returning.addItem(item(null, null));
+                orderRepository.save(returning);
+                orderRepository.save(order("2602160002", OrderStatus.COMPLETED, "0900000002"));
+                orderRepository.save(order("2602160003", OrderStatus.CANCELLED, "0900000002"));
+                orderRepository.save(order("2602160004", OrderStatus.PENDING, null));
+                entityManager.flush();
+
+                // When
+                DailyOrderTotals totals = orderRepository.summarizeDay(restaurant.getId(), OrderStatus.COMPLETED,
+                                startOfDay, endOfDay);
+
+                // Then
+                assertThat(totals.completedRevenue()).isEqualByComparingTo("20");
+                assertThat(totals.completedOrders()).isEqualTo(2);
+                assertThat(totals.customers()).isEqualTo(2);
+                assertThat(totals.newCustomers()).isEqualTo(1);
+                assertThat(totals.avgPrepSeconds()).isEqualTo(480.0);
+        }
+
+        private Order order(String orderNumber, OrderStatus status, String customerPhone) {
+                return Order.builder()
+                                .restaurant(restaurant)
+                                .orderNumber(orderNumber)
+                                .status(status)
+                                .customerPhone(customerPhone)
+                                .subtotal(BigDecimal.TEN)
+                                .totalAmount(BigDecimal.TEN)
+                                .paymentMethod(PaymentMethod.CASH)
+                                .build();
+        }
+
+        private OrderItem item(LocalDateTime startedPreparingAt, LocalDateTime readyAt) {
+                return OrderItem.builder()
+                                .itemName("Pho")
+                                .unitPrice(BigDecimal.TEN)
+                                .quantity(1)
+                                .subtotal(BigDecimal.TEN)
+                                .startedPreparingAt(startedPreparingAt)
+                                .readyAt(readyAt)
+                                .build();
+        }
 }
@@ -0,0 +1,215 @@
+package com.restaurantos.modules.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.restaurantos.modules.order.dto.response.KitchenBoardDeltaResponse;
+import com.restaurantos.modules.order.dto.response.KitchenBoardResponse;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
+import com.restaurantos.modules.order.entity.OrderItemStatus;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderCreatedEvent;
+import com.restaurantos.modules.order.event.OrderDeletedEvent;
+import com.restaurantos.modules.order.event.OrderItemStatusChangedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.service.impl.KitchenBoardServiceImpl;
+import com.restaurantos.modules.order.store.KitchenBoardStore;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenBoardServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private KitchenBoardStore boardStore;
+    private KitchenBoardService kitchenBoardService;
+
+    private UUID restaurantId;
+    private Order openOrder;
+    private UUID openItemId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        boardStore = new KitchenBoardStore(orderRepository, transactionManager, 15, 3);
+        kitchenBoardService = new KitchenBoardServiceImpl(boardStore);
+
+        openOrder = Order.builder()
+                .orderNumber("2602160001")
+                .status(OrderStatus.CONFIRMED)
+                .build();
+        openOrder.setId(UUID.randomUUID());
+        openOrder.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+        OrderItem item = OrderItem.builder()
+                .itemName("Pho Bo")
+                .unitPrice(BigDecimal.valueOf(50000))
+                .quantity(2)
+                .subtotal(BigDecimal.valueOf(100000))
+                .build();
+        item.setId(UUID.randomUUID());
+        openOrder.addItem(item);
+        openItemId = item.getId();
+
+        when(orderRepository.findByRestaurantIdAndStatusNotInOrderByCreatedAtAsc(eq(restaurantId), any()))
+                .thenReturn(List.of(openOrder));
+    }
+
+    @Test
+    void getBoard_ShouldLoadOnceAndFollowOrderEvents() {
+        // Given
+        kitchenBoardService.getBoard(restaurantId);
+        OrderResponse newOrder = orderResponse(UUID.randomUUID(), OrderStatus.PENDING);
+
+        // When
+        boardStore.onOrderCreated(new OrderCreatedEvent(restaurantId, newOrder));
+        KitchenBoardResponse board = kitchenBoardService.getBoard(restaurantId);
+
+        // Then
+        assertThat(board.getOrders()).extracting("id").containsExactly(openOrder.getId(), newOrder.getId());
+        assertThat(board.getOrders().get(0).getTableNumber()).isEqualTo("N/A");
+        assertThat(board.getOrders().get(0).getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getStatus()).isEqualTo(OrderItemStatus.PENDING));
+        verify(orderRepository, times(1)).findByRestaurantIdAndStatusNotInOrderByCreatedAtAsc(eq(restaurantId),
+                any());
+        // Only the load opened a transaction; the second read was served from memory
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void getChanges_ShouldReturnItemAndStatusChangesSinceVersion() {
+        // Given
+        long version = kitchenBoardService.getBoard(restaurantId).getVersion();
+        OrderResponse.OrderItemResponse preparing = OrderResponse.OrderItemResponse.builder()
+                .id(openItemId)
+                .itemName("Pho Bo")
+                .quantity(2)
+                .status(OrderItemStatus.PREPARING)
+                .build();
+
+        // When
+        boardStore.onOrderItemStatusChanged(new OrderItemStatusChangedEvent(restaurantId, openOrder.getId(),
+                preparing));
+        boardStore.onOrderStatusChanged(new OrderStatusChangedEvent(restaurantId, OrderStatus.CONFIRMED,
+                orderResponse(openOrder.getId(), OrderStatus.COMPLETED)));
+        KitchenBoardDeltaResponse changes = kitchenBoardService.getChanges(restaurantId, version);
+
+        // Then
+        assertThat(changes.isResync()).isFalse();
+        assertThat(changes.getChanges()).hasSize(2);
+        assertThat(changes.getChanges().get(0).getOrder().getItems().get(0).getStatus())
+                .isEqualTo(OrderItemStatus.PREPARING);
+        assertThat(changes.getChanges().get(1).getOrder()).isNull();
+        assertThat(changes.getVersion()).isEqualTo(changes.getChanges().get(1).getVersion());
+        assertThat(kitchenBoardService.getBoard(restaurantId).getOrders()).isEmpty();
+        assertThat(kitchenBoardService.getChanges(restaurantId, changes.getVersion()).getChanges()).isEmpty();
+    }
+
+    @Test
+    void getChanges_ShouldAskForResyncOnceChangesWereDropped() {
+        // Given
+        long version = kitchenBoardService.getBoard(restaurantId).getVersion();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            boardStore.onOrderCreated(new OrderCreatedEvent(restaurantId,
+                    orderResponse(UUID.randomUUID(), OrderStatus.PENDING)));
+        }
+        KitchenBoardDeltaResponse changes = kitchenBoardService.getChanges(restaurantId, version);
+
+        // Then
+        assertThat(changes.isResync()).isTrue();
+        assertThat(changes.getChanges()).isEmpty();
+        assertThat(kitchenBoardService.getBoard(restaurantId).getOrders()).hasSize(5);
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesCommittedWhileLoading() {
+        // Given
+        kitchenBoardService.getBoard(restaurantId);
+        UUID deletedDuringLoad = openOrder.getId();
+        when(orderRepository.findByRestaurantIdAndStatusNotInOrderByCreatedAtAsc(eq(restaurantId), any()))
+                .thenAnswer(invocation -> {
+                    boardStore.onOrderDeleted(new OrderDeletedEvent(restaurantId, deletedDuringLoad));
+                    return List.of(openOrder);
+                });
+
+        // When
+        boardStore.rebuild(restaurantId);
+
+        // Then
+        assertThat(kitchenBoardService.getBoard(restaurantId).getOrders()).isEmpty();
+    }
+
+    @Test
+    void rebuild_ShouldReplayItemChangesToOrdersNotYetOnTheBoard() {
+        // Given
+        kitchenBoardService.getBoard(restaurantId);
+        // Placed on another node, so it only reaches this board through the reload
+        Order remoteOrder = Order.builder()
+                .orderNumber("2602160002")
+                .status(OrderStatus.CONFIRMED)
+                .build();
+        remoteOrder.setId(UUID.randomUUID());
+        OrderItem remoteItem = OrderItem.builder()
+                .itemName("Bun Cha")
+                .unitPrice(BigDecimal.valueOf(60000))
+                .quantity(1)
+                .subtotal(BigDecimal.valueOf(60000))
+                .build();
+        remoteItem.setId(UUID.randomUUID());
+        remoteOrder.addItem(remoteItem);
+        OrderResponse.OrderItemResponse preparing = OrderResponse.OrderItemResponse.builder()
+                .id(remoteItem.getId())
+                .itemName("Bun Cha")
+                .quantity(1)
+                .status(OrderItemStatus.PREPARING)
+                .build();
+        // The change commits after the load has read the item as pending
+        when(orderRepository.findByRestaurantIdAndStatusNotInOrderByCreatedAtAsc(eq(restaurantId), any()))
+                .thenAnswer(invocation -> {
+                    boardStore.onOrderItemStatusChanged(new OrderItemStatusChangedEvent(restaurantId,
+                            remoteOrder.getId(), preparing));
+                    return List.of(openOrder, remoteOrder);
+                });
+
+        // When
+        boardStore.rebuild(restaurantId);
+
+        // Then
+        assertThat(kitchenBoardService.getBoard(restaurantId).getOrders().get(1).getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getStatus()).isEqualTo(OrderItemStatus.PREPARING));
+    }
+
+    private OrderResponse orderResponse(UUID id, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(id)
+                .orderNumber("2602160099")
+                .tableNumber("4")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .items(List.of())
+                .build();
+    }
+}
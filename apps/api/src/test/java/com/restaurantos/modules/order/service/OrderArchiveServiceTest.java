@@ -0,0 +1,184 @@
+package com.restaurantos.modules.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.restaurantos.modules.order.entity.ArchivedOrder;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.repository.ArchivedOrderItemRepository;
+import com.restaurantos.modules.order.repository.ArchivedOrderRepository;
+import com.restaurantos.modules.order.repository.DailyOrderTotals;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.service.impl.OrderArchiveServiceImpl;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.shared.config.JpaConfig;
+import com.restaurantos.shared.lease.JobLease;
+import com.restaurantos.shared.lease.JobLeaseRepository;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
+class OrderArchiveServiceTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private ArchivedOrderItemRepository archivedOrderItemRepository;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private OrderArchiveService archiveService;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        restaurant = entityManager.persist(Restaurant.builder()
+                .name("Archive Resto")
+                .slug("archive-resto")
+                .build());
+        // One order per batch, so the run has to loop
+        archiveService = new OrderArchiveServiceImpl(orderRepository, orderItemRepository, archivedOrderRepository,
+                archivedOrderItemRepository, leaseRepository, transactionManager, 90, 1, 0, 300);
+    }
+
+    @Test
+    void archiveClosedOrders_ShouldMoveOnlyClosedOrdersPastHorizon() {
+        // Given
+        Order oldCompleted = save(order("2606010001", OrderStatus.COMPLETED, "0901000001"), daysAgo(120));
+        Order oldCancelled = save(order("2606010002", OrderStatus.CANCELLED, null), daysAgo(100));
+        Order oldOpen = save(order("2606010003", OrderStatus.PENDING, null), daysAgo(120));
+        Order recent = save(order("2610160001", OrderStatus.COMPLETED, null), daysAgo(1));
+
+        // When
+        archiveService.archiveClosedOrders();
+        entityManager.clear();
+
+        // Then
+        assertThat(orderRepository.findAll()).extracting(Order::getId)
+                .containsExactlyInAnyOrder(oldOpen.getId(), recent.getId());
+        assertThat(orderItemRepository.findByOrderId(oldCompleted.getId())).isEmpty();
+        assertThat(archivedOrderRepository.findAll()).extracting(ArchivedOrder::getId)
+                .containsExactlyInAnyOrder(oldCompleted.getId(), oldCancelled.getId());
+
+        Order restored = archiveService.findById(oldCompleted.getId()).orElseThrow();
+        assertThat(restored.getOrderNumber()).isEqualTo("2606010001");
+        assertThat(restored.getCustomerPhone()).isEqualTo("0901000001");
+        assertThat(restored.getRestaurant().getId()).isEqualTo(restaurant.getId());
+        assertThat(restored.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getItemName()).isEqualTo("Pho"));
+    }
+
+    @Test
+    void archiveClosedOrders_ShouldSkipWhileAnotherNodeHoldsTheLease() {
+        // Given
+        Order oldCompleted = save(order("2606010001", OrderStatus.COMPLETED, null), daysAgo(120));
+        leaseRepository.saveAndFlush(JobLease.builder()
+                .name("order-archive")
+                .owner("another-node")
+                .leasedUntil(LocalDateTime.now().plusMinutes(5))
+                .build());
+
+        // When
+        archiveService.archiveClosedOrders();
+        entityManager.clear();
+
+        // Then
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(oldCompleted.getId());
+        assertThat(archivedOrderRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void archiveClosedOrders_ShouldReleaseTheLeaseWhenDone() {
+        // Given
+        save(order("2606010001", OrderStatus.COMPLETED, null), daysAgo(120));
+
+        // When
+        archiveService.archiveClosedOrders();
+        entityManager.clear();
+
+        // Then
+        assertThat(leaseRepository.findAll()).singleElement()
+                .satisfies(lease -> assertThat(lease.getLeasedUntil()).isBeforeOrEqualTo(LocalDateTime.now()));
+        assertThat(archivedOrderRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void summarizeDay_ShouldNotCountCustomersWithArchivedOrdersAsNew() {
+        // Given
+        save(order("2606010001", OrderStatus.COMPLETED, "0901000001"), daysAgo(120));
+        save(order("2610170001", OrderStatus.COMPLETED, "0901000001"), LocalDateTime.now());
+        save(order("2610170002", OrderStatus.COMPLETED, "0901000002"), LocalDateTime.now());
+        archiveService.archiveClosedOrders();
+        entityManager.clear();
+
+        // When
+        DailyOrderTotals today = orderRepository.summarizeDay(restaurant.getId(), OrderStatus.COMPLETED,
+                LocalDateTime.of(LocalDate.now(), LocalTime.MIN), LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
+
+        // Then
+        assertThat(today.customers()).isEqualTo(2);
+        assertThat(today.newCustomers()).isEqualTo(1);
+    }
+
+    private Order save(Order order, LocalDateTime createdAt) {
+        Order saved = orderRepository.saveAndFlush(order);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", saved.getId())
+                .executeUpdate();
+        return saved;
+    }
+
+    private Order order(String orderNumber, OrderStatus status, String customerPhone) {
+        Order order = Order.builder()
+                .restaurant(restaurant)
+                .orderNumber(orderNumber)
+                .status(status)
+                .customerPhone(customerPhone)
+                .subtotal(BigDecimal.TEN)
+                .totalAmount(BigDecimal.TEN)
+                .build();
+        order.addItem(OrderItem.builder()
+                .itemName("Pho")
+                .unitPrice(BigDecimal.TEN)
+                .quantity(1)
+                .subtotal(BigDecimal.TEN)
+                .build());
+        return order;
+    }
+
+    private static LocalDateTime daysAgo(int days) {
+        return LocalDateTime.now().minusDays(days);
+    }
+}
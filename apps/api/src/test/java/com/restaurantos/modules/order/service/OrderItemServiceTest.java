@@ -0,0 +1,172 @@
+package com.restaurantos.modules.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.restaurantos.modules.order.dto.request.BulkUpdateOrderItemStatusRequest;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
+import com.restaurantos.modules.order.entity.OrderItemStatus;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.event.OrderItemStatusChangedEvent;
+import com.restaurantos.modules.order.event.OrderStatusChangedEvent;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.service.impl.OrderItemServiceImpl;
+import com.restaurantos.shared.exception.ResourceNotFoundException;
+import com.restaurantos.shared.websocket.WebSocketService;
+
+@ExtendWith(MockitoExtension.class)
+class OrderItemServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private WebSocketService webSocketService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderItemServiceImpl orderItemService;
+
+    private UUID restaurantId;
+    private UUID orderId;
+    private UUID soupId;
+    private UUID noodlesId;
+    private UUID riceId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        orderId = UUID.randomUUID();
+        soupId = UUID.randomUUID();
+        noodlesId = UUID.randomUUID();
+        riceId = UUID.randomUUID();
+    }
+
+    @Test
+    void updateStatuses_ShouldBumpInOneUpdateAndRollUpOrder() {
+        // Given
+        Order before = order(OrderStatus.PREPARING, OrderItemStatus.PREPARING, OrderItemStatus.PREPARING,
+                OrderItemStatus.READY);
+        Order after = order(OrderStatus.PREPARING, OrderItemStatus.READY, OrderItemStatus.READY,
+                OrderItemStatus.READY);
+        when(orderItemRepository.findByIdInAndOrderRestaurantId(anyCollection(), eq(restaurantId)))
+                .thenReturn(before.getItems());
+        when(orderRepository.findByIdIn(Set.of(orderId))).thenReturn(List.of(after));
+        when(orderRepository.save(after)).thenReturn(after);
+
+        // When
+        List<OrderResponse> responses = orderItemService.updateStatuses(restaurantId, request(OrderItemStatus.READY,
+                soupId, noodlesId, riceId));
+
+        // Then
+        assertThat(responses).singleElement()
+                .satisfies(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.READY));
+        verify(orderItemRepository).updateStatuses(eq(Set.of(soupId, noodlesId)), eq(OrderItemStatus.READY),
+                isNull(), any(), isNull(), any());
+        verify(eventPublisher, times(2)).publishEvent(any(OrderItemStatusChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
+        verify(webSocketService, times(1)).broadcastToOrder(orderId, responses.get(0));
+        verify(webSocketService, times(1)).broadcastToKitchen(restaurantId, responses.get(0));
+        verify(webSocketService, times(1)).broadcastToDashboard(restaurantId, responses.get(0));
+    }
+
+    @Test
+    void updateStatuses_ShouldKeepOrderStatusWhileItemsAreOpen() {
+        // Given
+        Order before = order(OrderStatus.CONFIRMED, OrderItemStatus.PENDING, OrderItemStatus.PENDING,
+                OrderItemStatus.PENDING);
+        Order after = order(OrderStatus.CONFIRMED, OrderItemStatus.READY, OrderItemStatus.PENDING,
+                OrderItemStatus.PENDING);
+        when(orderItemRepository.findByIdInAndOrderRestaurantId(anyCollection(), eq(restaurantId)))
+                .thenReturn(List.of(before.getItems().get(0)));
+        when(orderRepository.findByIdIn(Set.of(orderId))).thenReturn(List.of(after));
+
+        // When
+        List<OrderResponse> responses = orderItemService.updateStatuses(restaurantId,
+                request(OrderItemStatus.READY, soupId));
+
+        // Then
+        assertThat(responses.get(0).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        verify(orderRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(OrderStatusChangedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(any(OrderItemStatusChangedEvent.class));
+    }
+
+    @Test
+    void updateStatuses_ShouldRejectItemsOfOtherRestaurants() {
+        // Given
+        Order before = order(OrderStatus.CONFIRMED, OrderItemStatus.PENDING, OrderItemStatus.PENDING,
+                OrderItemStatus.PENDING);
+        UUID foreignItemId = UUID.randomUUID();
+        when(orderItemRepository.findByIdInAndOrderRestaurantId(anyCollection(), eq(restaurantId)))
+                .thenReturn(List.of(before.getItems().get(0)));
+
+        // When / Then
+        assertThatThrownBy(() -> orderItemService.updateStatuses(restaurantId,
+                request(OrderItemStatus.READY, soupId, foreignItemId)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(foreignItemId.toString());
+        verify(orderItemRepository, never()).updateStatuses(any(), any(), any(), any(), any(), any());
+        verify(webSocketService, never()).broadcastToKitchen(any(), any());
+    }
+
+    private Order order(OrderStatus status, OrderItemStatus soup, OrderItemStatus noodles, OrderItemStatus rice) {
+        Order order = Order.builder()
+                .orderNumber("2610170001")
+                .status(status)
+                .build();
+        order.setId(orderId);
+        order.addItem(item(soupId, "Soup", soup));
+        order.addItem(item(noodlesId, "Noodles", noodles));
+        order.addItem(item(riceId, "Rice", rice));
+        return order;
+    }
+
+    private OrderItem item(UUID id, String name, OrderItemStatus status) {
+        OrderItem item = OrderItem.builder()
+                .itemName(name)
+                .unitPrice(BigDecimal.valueOf(50000))
+                .quantity(1)
+                .subtotal(BigDecimal.valueOf(50000))
+                .status(status)
+                .build();
+        item.setId(id);
+        return item;
+    }
+
+    private BulkUpdateOrderItemStatusRequest request(OrderItemStatus status, UUID... itemIds) {
+        return BulkUpdateOrderItemStatusRequest.builder()
+                .itemIds(List.of(itemIds))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.restaurantos.modules.order.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.service.impl.OrderServiceImpl;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.modules.table.repository.TableRepository;
+import com.restaurantos.shared.outbox.OutboxPublisher;
+import com.restaurantos.shared.websocket.WebSocketService;
+
+/**
+ * Entity to DTO mapping of a single order through {@code getById}, with the
+ * repository stubbed so that the measurement is dominated by
+ * {@code OrderServiceImpl.mapToResponse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderMappingBenchmark {
+
+    @Param({ "10", "200" })
+    public int itemCount;
+
+    private OrderService orderService;
+    private UUID orderId;
+
+    @Setup
+    public void setUp() {
+        RestaurantTable table = RestaurantTable.builder().tableNumber(7).build();
+        table.setId(UUID.randomUUID());
+        Order order = Order.builder()
+                .orderNumber("ORD-0001")
+                .customerName("Bench")
+                .subtotal(BigDecimal.ZERO)
+                .totalAmount(BigDecimal.ZERO)
+                .table(table)
+                .build();
+        orderId = UUID.randomUUID();
+        order.setId(orderId);
+        for (int i = 0; i < itemCount; i++) {
+            MenuItem menuItem = MenuItem.builder().name("Dish " + i).build();
+            menuItem.setId(UUID.randomUUID());
+            OrderItem item = OrderItem.builder()
+                    .menuItem(menuItem)
+                    .itemName(menuItem.getName())
+                    .unitPrice(BigDecimal.valueOf(45000))
+                    .quantity(2)
+                    .subtotal(BigDecimal.valueOf(90000))
+                    .build();
+            item.setId(UUID.randomUUID());
+            order.addItem(item);
+        }
+
+        OrderRepository orderRepository = stub(OrderRepository.class);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        orderService = new OrderServiceImpl(orderRepository, stub(OrderItemRepository.class),
+                stub(RestaurantRepository.class), stub(TableRepository.class), stub(MenuItemRepository.class),
+                stub(ApplicationEventPublisher.class), stub(OutboxPublisher.class),
+                stub(WebSocketService.class), stub(OrderNumberService.class),
+                stub(OrderArchiveService.class));
+    }
+
+    @Benchmark
+    public OrderResponse mapOrder() {
+        return orderService.getById(orderId);
+    }
+
+    /**
+     * Stub-only mocks keep no invocation history, so millions of benchmark
+     * calls neither slow down nor fill the heap with recorded invocations.
+     */
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,147 @@
+package com.restaurantos.modules.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+import com.restaurantos.modules.order.dto.request.CreateOrderRequest;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.order.repository.OrderSequenceRepository;
+import com.restaurantos.modules.order.service.impl.OrderNumberServiceImpl;
+import com.restaurantos.modules.order.service.impl.OrderServiceImpl;
+import com.restaurantos.modules.payment.entity.PaymentMethod;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.shared.config.JpaConfig;
+import com.restaurantos.shared.outbox.OutboxPublisher;
+import com.restaurantos.shared.websocket.WebSocketService;
+
+/**
+ * Fires parallel order creations against a single restaurant. Runs without a
+ * test-managed transaction so every create commits on its own connection, the
+ * way concurrent requests do in production.
+ */
+@DataJpaTest
+@Import({ JpaConfig.class, OrderServiceImpl.class, OrderNumberServiceImpl.class })
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderNumberConcurrencyTest {
+
+        private static final int ORDER_COUNT = 300;
+        private static final int THREAD_COUNT = 8;
+
+        @Autowired
+        private OrderService orderService;
+
+        @Autowired
+        private OrderRepository orderRepository;
+
+        @Autowired
+        private OrderSequenceRepository sequenceRepository;
+
+        @Autowired
+        private RestaurantRepository restaurantRepository;
+
+        @Autowired
+        private MenuCategoryRepository categoryRepository;
+
+        @Autowired
+        private MenuItemRepository menuItemRepository;
+
+        @MockitoBean
+        private WebSocketService webSocketService;
+
+        @MockitoBean
+        private OutboxPublisher outboxPublisher;
+
+        @MockitoBean
+        private OrderArchiveService orderArchiveService;
+
+        private Restaurant restaurant;
+        private MenuCategory category;
+        private MenuItem menuItem;
+
+        @BeforeEach
+        void setUp() {
+                restaurant = restaurantRepository.save(Restaurant.builder()
+                                .name("Rush Resto")
+                                .slug("rush-resto")
+                                .build());
+                category = categoryRepository.save(MenuCategory.builder()
+                                .name("Mains")
+                                .restaurant(restaurant)
+                                .build());
+                menuItem = menuItemRepository.save(MenuItem.builder()
+                                .name("Pho")
+                                .price(BigDecimal.valueOf(50000))
+                                .restaurant(restaurant)
+                                .category(category)
+                                .build());
+        }
+
+        @AfterEach
+        void tearDown() {
+                orderRepository.deleteAll();
+                sequenceRepository.deleteAll();
+                menuItemRepository.delete(menuItem);
+                categoryRepository.delete(category);
+                restaurantRepository.delete(restaurant);
+        }
+
+        @Test
+        void create_InParallel_ShouldAllocateUniqueOrderNumbers() throws Exception {
+                // Given
+                CreateOrderRequest request = CreateOrderRequest.builder()
+                                .customerName("Walk-in")
+                                .paymentMethod(PaymentMethod.CASH)
+                                .items(List.of(CreateOrderRequest.OrderItemRequest.builder()
+                                                .menuItemId(menuItem.getId())
+                                                .quantity(1)
+                                                .build()))
+                                .build();
+                Callable<String> createOrder = () -> orderService.create(restaurant.getId(), request).getOrderNumber();
+
+                // When
+                List<Future<String>> futures = new ArrayList<>();
+                ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+                try {
+                        for (int i = 0; i < ORDER_COUNT; i++) {
+                                futures.add(executor.submit(createOrder));
+                        }
+                        Set<String> orderNumbers = new HashSet<>();
+                        for (Future<String> future : futures) {
+                                orderNumbers.add(future.get());
+                        }
+
+                        // Then
+                        assertThat(orderNumbers).hasSize(ORDER_COUNT);
+                        assertThat(sequenceRepository.findLastNumber(restaurant.getId())).contains(ORDER_COUNT);
+                        assertThat(orderRepository.count()).isEqualTo(ORDER_COUNT);
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+}
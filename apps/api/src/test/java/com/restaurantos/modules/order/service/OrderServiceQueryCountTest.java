@@ -0,0 +1,167 @@
+package com.restaurantos.modules.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.order.dto.request.CreateOrderRequest;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.service.impl.OrderServiceImpl;
+import com.restaurantos.modules.payment.entity.PaymentMethod;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.shared.config.JpaConfig;
+import com.restaurantos.shared.outbox.OutboxPublisher;
+import com.restaurantos.shared.websocket.WebSocketService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the number of SQL statements issued by the order service so that
+ * per-line lookups and per-order lazy loads cannot silently come back.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ JpaConfig.class, OrderServiceImpl.class })
+@ActiveProfiles("test")
+class OrderServiceQueryCountTest {
+
+        @Autowired
+        private OrderService orderService;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @MockitoBean
+        private WebSocketService webSocketService;
+
+        @MockitoBean
+        private OutboxPublisher outboxPublisher;
+
+        @MockitoBean
+        private OrderArchiveService orderArchiveService;
+
+        @MockitoBean
+        private OrderNumberService orderNumberService;
+
+        private Restaurant restaurant;
+        private List<MenuItem> menuItems;
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUp() {
+                restaurant = Restaurant.builder()
+                                .name("Query Resto")
+                                .slug("query-resto")
+                                .build();
+                entityManager.persist(restaurant);
+
+                MenuCategory category = MenuCategory.builder()
+                                .name("Mains")
+                                .restaurant(restaurant)
+                                .build();
+                entityManager.persist(category);
+
+                menuItems = new ArrayList<>();
+                for (int i = 0; i < 15; i++) {
+                        MenuItem menuItem = MenuItem.builder()
+                                        .name("Dish " + i)
+                                        .price(BigDecimal.valueOf(10000 + i))
+                                        .restaurant(restaurant)
+                                        .category(category)
+                                        .build();
+                        entityManager.persist(menuItem);
+                        menuItems.add(menuItem);
+                }
+                entityManager.flush();
+
+                when(orderNumberService.nextOrderNumber(any())).thenReturn("2610170001");
+                statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        }
+
+        @Test
+        void create_ShouldNotIssueOneLookupPerLineItem() {
+                // Given
+                CreateOrderRequest singleLine = orderRequest(menuItems.subList(0, 1));
+                CreateOrderRequest fifteenLines = orderRequest(menuItems);
+
+                // When
+                long singleLineStatements = countStatements(singleLine);
+                long fifteenLineStatements = countStatements(fifteenLines);
+
+                // Then: the 14 additional order_items rows join the same batched insert
+                assertThat(fifteenLineStatements).isEqualTo(singleLineStatements);
+        }
+
+        @Test
+        void getPage_ShouldLoadOrdersTablesAndItemsInConstantQueries() {
+                // Given
+                for (int i = 1; i <= 20; i++) {
+                        RestaurantTable table = RestaurantTable.builder()
+                                        .tableNumber(i)
+                                        .capacity(4)
+                                        .restaurant(restaurant)
+                                        .build();
+                        entityManager.persist(table);
+                        CreateOrderRequest request = orderRequest(menuItems.subList(0, 1 + i % 5));
+                        request.setTableId(table.getId());
+                        orderService.create(restaurant.getId(), request);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                statistics.clear();
+
+                // When
+                List<OrderResponse> orders = orderService.getPage(restaurant.getId(), null, null, 50).getItems();
+
+                // Then: one query for orders joined with their table, one for all of their items
+                assertThat(orders).hasSize(20);
+                assertThat(orders).allSatisfy(order -> {
+                        assertThat(order.getTableNumber()).isNotEqualTo("N/A");
+                        assertThat(order.getItems()).isNotEmpty();
+                });
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        private long countStatements(CreateOrderRequest request) {
+                entityManager.clear();
+                statistics.clear();
+
+                orderService.create(restaurant.getId(), request);
+                entityManager.flush();
+
+                return statistics.getPrepareStatementCount();
+        }
+
+        private CreateOrderRequest orderRequest(List<MenuItem> items) {
+                return CreateOrderRequest.builder()
+                                .customerName("Query Guest")
+                                .paymentMethod(PaymentMethod.CASH)
+                                .items(items.stream()
+                                                .map(item -> CreateOrderRequest.OrderItemRequest.builder()
+                                                                .menuItemId(item.getId())
+                                                                .quantity(1)
+                                                                .build())
+                                                .toList())
+                                .build();
+        }
+}
@@ -1,12 +1,19 @@
 package com.restaurantos.modules.order.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import com.restaurantos.modules.menu.entity.MenuItem;
 import com.restaurantos.modules.menu.repository.MenuItemRepository;
@@ -26,6 +34,7 @@ import com.restaurantos.modules.order.dto.response.OrderResponse;
 import com.restaurantos.modules.order.entity.Order;
 import com.restaurantos.modules.order.entity.OrderStatus;
 import com.restaurantos.modules.order.event.OrderCompletedEvent;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
 import com.restaurantos.modules.order.repository.OrderRepository;
 import com.restaurantos.modules.order.service.impl.OrderServiceImpl;
 import com.restaurantos.modules.payment.entity.PaymentMethod;
@@ -33,6 +42,11 @@ import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
 import com.restaurantos.modules.table.entity.RestaurantTable;
 import com.restaurantos.modules.table.repository.TableRepository;
+import com.restaurantos.shared.dto.CursorPage;
+import com.restaurantos.shared.dto.KeysetCursor;
+import com.restaurantos.shared.exception.InvalidInputException;
+import com.restaurantos.shared.exception.ResourceNotFoundException;
+import com.restaurantos.shared.outbox.OutboxPublisher;
 import com.restaurantos.shared.websocket.WebSocketService;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +55,9 @@ class OrderServiceTest {
         @Mock
         private OrderRepository orderRepository;
 
+        @Mock
+        private OrderItemRepository orderItemRepository;
+
         @Mock
         private RestaurantRepository restaurantRepository;
 
@@ -53,9 +70,18 @@ class OrderServiceTest {
         @Mock
         private ApplicationEventPublisher eventPublisher;
 
+        @Mock
+        private OutboxPublisher outboxPublisher;
+
         @Mock
         private WebSocketService webSocketService;
 
+        @Mock
+        private OrderNumberService orderNumberService;
+
+        @Mock
+        private OrderArchiveService orderArchiveService;
+
         @InjectMocks
         private OrderServiceImpl orderService;
 
@@ -101,7 +127,9 @@ class OrderServiceTest {
 
                 when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
                 when(tableRepository.findById(tableId)).thenReturn(Optional.of(table));
-                when(menuItemRepository.findById(menuItemId)).thenReturn(Optional.of(menuItem));
+                when(orderNumberService.nextOrderNumber(restaurantId)).thenReturn("2610170001");
+                when(menuItemRepository.findByRestaurantIdAndIdIn(eq(restaurantId), anyCollection()))
+                                .thenReturn(List.of(menuItem));
                 when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
                         Order o = invocation.getArgument(0);
                         o.setId(UUID.randomUUID());
@@ -112,12 +140,37 @@ class OrderServiceTest {
                 OrderResponse response = orderService.create(restaurantId, request);
 
                 // Then
-                assertThat(response.getOrderNumber()).isNotEmpty();
+                assertThat(response.getOrderNumber()).isEqualTo("2610170001");
                 assertThat(response.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(200000));
                 assertThat(response.getItems()).hasSize(1);
                 verify(orderRepository).save(any(Order.class));
         }
 
+        @Test
+        void create_WithMenuItemFromAnotherRestaurant_ShouldThrow() {
+                // Given
+                UUID foreignMenuItemId = UUID.randomUUID();
+                CreateOrderRequest request = CreateOrderRequest.builder()
+                                .customerName("John Doe")
+                                .paymentMethod(PaymentMethod.CASH)
+                                .items(Collections.singletonList(
+                                                CreateOrderRequest.OrderItemRequest.builder()
+                                                                .menuItemId(foreignMenuItemId)
+                                                                .quantity(1)
+                                                                .build()))
+                                .build();
+
+                when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+                when(menuItemRepository.findByRestaurantIdAndIdIn(eq(restaurantId), anyCollection()))
+                                .thenReturn(List.of());
+
+                // When / Then
+                assertThatThrownBy(() -> orderService.create(restaurantId, request))
+                                .isInstanceOf(ResourceNotFoundException.class)
+                                .hasMessageContaining(foreignMenuItemId.toString());
+                verify(orderRepository, never()).save(any(Order.class));
+        }
+
         @Test
         void updateStatus_ToCompleted_ShouldPublishEvent() {
                 // Given
@@ -140,6 +193,87 @@ class OrderServiceTest {
 
                 // Then
                 assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
-                verify(eventPublisher).publishEvent(any(OrderCompletedEvent.class));
+                verify(outboxPublisher).publish(eq("Order"), eq(orderId), any(OrderCompletedEvent.class));
+                verify(eventPublisher, never()).publishEvent(any(OrderCompletedEvent.class));
+        }
+
+        @Test
+        void getPage_WhenMoreRowsThanPageSize_ShouldReturnCursorToLastItem() {
+                // Given
+                List<Order> orders = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                        Order order = Order.builder()
+                                        .restaurant(restaurant)
+                                        .orderNumber("260216000" + i)
+                                        .build();
+                        order.setId(UUID.randomUUID());
+                        order.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+                        orders.add(order);
+                }
+                when(orderRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(restaurantId, Limit.of(3)))
+                                .thenReturn(orders);
+                when(orderArchiveService.archivedBefore()).thenReturn(LocalDateTime.now().minusDays(90));
+
+                // When
+                CursorPage<OrderResponse> page = orderService.getPage(restaurantId, null, null, 2);
+
+                // Then
+                assertThat(page.getItems()).hasSize(2);
+                assertThat(page.isHasMore()).isTrue();
+                KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+                assertThat(cursor.id()).isEqualTo(orders.get(1).getId());
+                assertThat(cursor.createdAt()).isEqualTo(orders.get(1).getCreatedAt());
+        }
+
+        @Test
+        void getPage_WhenHotOrdersRunOut_ShouldContinueIntoArchive() {
+                // Given
+                Order recent = order("2610170001", LocalDateTime.now().minusHours(1));
+                Order archived = order("2606010001", LocalDateTime.now().minusDays(120));
+                Order olderArchived = order("2606010002", LocalDateTime.now().minusDays(121));
+                when(orderRepository.findByRestaurantIdOrderByCreatedAtDescIdDesc(restaurantId, Limit.of(3)))
+                                .thenReturn(List.of(recent));
+                when(orderArchiveService.findPage(restaurantId, null, null, Limit.of(3)))
+                                .thenReturn(List.of(archived, olderArchived));
+
+                // When
+                CursorPage<OrderResponse> page = orderService.getPage(restaurantId, null, null, 2);
+
+                // Then
+                assertThat(page.getItems()).extracting(OrderResponse::getOrderNumber)
+                                .containsExactly("2610170001", "2606010001");
+                assertThat(page.isHasMore()).isTrue();
+                assertThat(KeysetCursor.decode(page.getNextCursor()).id()).isEqualTo(archived.getId());
+        }
+
+        @Test
+        void getById_WhenOrderWasArchived_ShouldReadArchive() {
+                // Given
+                Order archived = order("2606010001", LocalDateTime.now().minusDays(120));
+                when(orderRepository.findById(archived.getId())).thenReturn(Optional.empty());
+                when(orderArchiveService.findById(archived.getId())).thenReturn(Optional.of(archived));
+
+                // When
+                OrderResponse response = orderService.getById(archived.getId());
+
+                // Then
+                assertThat(response.getOrderNumber()).isEqualTo("2606010001");
+        }
+
+        @Test
+        void getPage_WithMalformedCursor_ShouldThrow() {
+                assertThatThrownBy(() -> orderService.getPage(restaurantId, null, "not-a-cursor", 20))
+                                .isInstanceOf(InvalidInputException.class);
+        }
+
+        private Order order(String orderNumber, LocalDateTime createdAt) {
+                Order order = Order.builder()
+                                .restaurant(restaurant)
+                                .orderNumber(orderNumber)
+                                .status(OrderStatus.COMPLETED)
+                                .build();
+                order.setId(UUID.randomUUID());
+                order.setCreatedAt(createdAt);
+                return order;
         }
 }
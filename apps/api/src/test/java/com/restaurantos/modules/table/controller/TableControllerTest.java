@@ -2,6 +2,8 @@ package com.restaurantos.modules.table.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -83,6 +86,20 @@ class TableControllerTest {
                 .andExpect(jsonPath("$.data[0].tableNumber").value(1));
     }
 
+    @Test
+    @WithMockUser
+    void should_ReturnNotModified_When_ETagMatches() throws Exception {
+        when(tableService.getListingETag(restaurantId)).thenReturn("\"3-1a-5\"");
+
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/tables", restaurantId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3-1a-5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-1a-5\""))
+                .andExpect(content().string(""));
+
+        verify(tableService, never()).getAllByRestaurant(any());
+    }
+
     @Test
     @WithMockUser(roles = "OWNER")
     void should_CreateTable_When_Owner() throws Exception {
@@ -112,6 +112,27 @@ class TableRepositoryTest {
         assertThat(notExists).isFalse();
     }
 
+    @Test
+    void should_ChangeListingVersion_When_TableUpdatedOrAdded() {
+        // Given
+        RestaurantTable table = saveTable(1);
+        entityManager.flush();
+        String initial = tableRepository.findListingVersion(restaurant.getId()).toETag();
+
+        // When
+        table.setStatus(TableStatus.OCCUPIED);
+        entityManager.flush();
+        String afterUpdate = tableRepository.findListingVersion(restaurant.getId()).toETag();
+        saveTable(2);
+        entityManager.flush();
+        String afterInsert = tableRepository.findListingVersion(restaurant.getId()).toETag();
+
+        // Then
+        assertThat(tableRepository.findListingVersion(restaurant.getId()).count()).isEqualTo(2L);
+        assertThat(afterUpdate).isNotEqualTo(initial);
+        assertThat(afterInsert).isNotEqualTo(afterUpdate);
+    }
+
     private RestaurantTable saveTable(Integer number) {
         RestaurantTable table = RestaurantTable.builder()
                 .tableNumber(number)
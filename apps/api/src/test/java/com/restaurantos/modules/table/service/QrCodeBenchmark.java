@@ -0,0 +1,57 @@
+package com.restaurantos.modules.table.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single QR code rendering and the printable QR sheet for a 100-table
+ * restaurant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QrCodeBenchmark {
+
+    private static final int TABLES = 100;
+
+    private final QRCodeService qrCodeService = new QRCodeService();
+    private final PDFService pdfService = new PDFService();
+    private String qrUrl;
+    private List<PDFService.TableQrInfo> tableInfos;
+
+    @Setup
+    public void setUp() throws IOException {
+        qrUrl = "https://restaurant-os.com/order/" + UUID.randomUUID();
+        tableInfos = new ArrayList<>(TABLES);
+        for (int i = 1; i <= TABLES; i++) {
+            byte[] image = qrCodeService.generateQRCode("https://restaurant-os.com/order/" + UUID.randomUUID(),
+                    300, 300);
+            tableInfos.add(new PDFService.TableQrInfo(Integer.toString(i), image));
+        }
+    }
+
+    @Benchmark
+    public byte[] generateQrCode() throws IOException {
+        return qrCodeService.generateQRCode(qrUrl, 300, 300);
+    }
+
+    @Benchmark
+    public byte[] generateQrCodeGridPdf() throws IOException {
+        return pdfService.generateQrCodeGridPdf("Bench Resto", tableInfos);
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.restaurantos.modules.restaurant.entity.Restaurant;
 import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
@@ -22,6 +23,7 @@ import com.restaurantos.modules.table.dto.request.TableRequest;
 import com.restaurantos.modules.table.dto.response.TableResponse;
 import com.restaurantos.modules.table.entity.RestaurantTable;
 import com.restaurantos.modules.table.entity.TableStatus;
+import com.restaurantos.modules.table.event.TableStatusChangedEvent;
 import com.restaurantos.modules.table.repository.TableRepository;
 import com.restaurantos.modules.table.service.PDFService;
 import com.restaurantos.modules.table.service.QRCodeService;
@@ -43,6 +45,9 @@ class TableServiceTest {
     @Mock
     private PDFService pdfService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TableServiceImpl tableService;
 
@@ -132,12 +137,13 @@ class TableServiceTest {
     @Test
     void should_DeleteTable() {
         // Given
-        when(tableRepository.existsById(tableId)).thenReturn(true);
+        when(tableRepository.findById(tableId)).thenReturn(Optional.of(table));
 
         // When
         tableService.delete(tableId);
 
         // Then
-        verify(tableRepository).deleteById(tableId);
+        verify(tableRepository).delete(table);
+        verify(eventPublisher).publishEvent(any(TableStatusChangedEvent.class));
     }
 }
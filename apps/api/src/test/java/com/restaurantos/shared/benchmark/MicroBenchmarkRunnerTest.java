@@ -0,0 +1,48 @@
+package com.restaurantos.shared.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks ({@code *Benchmark} classes in the test sources) and
+ * writes the results as JSON so that runs can be compared between releases.
+ * Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ *
+ * <ul>
+ * <li>{@code -Djmh.include=<regex>} selects benchmarks, all by default</li>
+ * <li>{@code -Djmh.result=<file>} sets the result file, by default
+ * {@code target/jmh/results.json}</li>
+ * <li>{@code -Djmh.forks=<n>} sets the number of forked JVMs, 1 by default</li>
+ * </ul>
+ */
+@Tag("benchmark")
+class MicroBenchmarkRunnerTest {
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        File result = new File(System.getProperty("jmh.result", "target/jmh/results.json"));
+        result.getParentFile().mkdirs();
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(System.getProperty("jmh.include", "com\\.restaurantos\\..*Benchmark"))
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build())
+                .run();
+
+        assertThat(results).isNotEmpty();
+        assertThat(result).isNotEmpty();
+    }
+}
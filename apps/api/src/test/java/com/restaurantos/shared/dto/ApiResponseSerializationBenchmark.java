@@ -0,0 +1,86 @@
+package com.restaurantos.shared.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.order.dto.response.OrderResponse;
+import com.restaurantos.modules.order.entity.OrderItemStatus;
+import com.restaurantos.modules.order.entity.OrderStatus;
+
+/**
+ * Serialization of an order listing response, as written by the order
+ * endpoints, with an object mapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 8;
+
+    @Param({ "50" })
+    public int orderCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<OrderResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<OrderResponse> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            List<OrderResponse.OrderItemResponse> items = new ArrayList<>(ITEMS_PER_ORDER);
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                items.add(OrderResponse.OrderItemResponse.builder()
+                        .id(UUID.randomUUID())
+                        .menuItemId(UUID.randomUUID())
+                        .itemName("Dish " + j)
+                        .unitPrice(BigDecimal.valueOf(45000))
+                        .quantity(2)
+                        .subtotal(BigDecimal.valueOf(90000))
+                        .status(OrderItemStatus.PENDING)
+                        .build());
+            }
+            orders.add(OrderResponse.builder()
+                    .id(UUID.randomUUID())
+                    .orderNumber("ORD-" + i)
+                    .tableId(UUID.randomUUID())
+                    .tableNumber(Integer.toString(i % 30))
+                    .customerName("Guest " + i)
+                    .status(OrderStatus.PENDING)
+                    .subtotal(BigDecimal.valueOf(720000))
+                    .discountAmount(BigDecimal.ZERO)
+                    .taxAmount(BigDecimal.ZERO)
+                    .totalAmount(BigDecimal.valueOf(720000))
+                    .createdAt(LocalDateTime.now())
+                    .items(items)
+                    .build());
+        }
+        response = ApiResponse.success(orders);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,103 @@
+package com.restaurantos.shared.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.restaurantos.modules.inventory.entity.Ingredient;
+import com.restaurantos.modules.inventory.repository.IngredientRepository;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.shared.config.JpaConfig;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Measures insert throughput with JDBC batching off (one statement per row,
+ * the previous behaviour) and on (the configured batch size). Excluded from
+ * the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        restaurant = restaurantRepository.save(Restaurant.builder()
+                .name("Bench Resto")
+                .slug("bench-resto")
+                .build());
+    }
+
+    @Test
+    void insertThroughput_WithAndWithoutBatching() {
+        // Warm up both code paths before measuring
+        insertRows(1, 500);
+        insertRows(null, 500);
+
+        double unbatched = 0;
+        double batched = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            unbatched += insertRows(1, ROWS);
+            batched += insertRows(null, ROWS);
+        }
+        unbatched /= ROUNDS;
+        batched /= ROUNDS;
+
+        System.out.printf("Ingredient inserts, %d rows x %d rounds%n", ROWS, ROUNDS);
+        System.out.printf("  one statement per row: %,.0f rows/sec%n", unbatched);
+        System.out.printf("  JDBC batching:         %,.0f rows/sec (%.1fx)%n", batched, batched / unbatched);
+
+        assertThat(ingredientRepository.count()).isEqualTo(1000L + 2L * ROUNDS * ROWS);
+    }
+
+    /**
+     * Persists {@code rows} ingredients and flushes them, returning rows/sec.
+     * A {@code null} batch size keeps the configured
+     * {@code hibernate.jdbc.batch_size}.
+     */
+    private double insertRows(Integer batchSize, int rows) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            ingredientRepository.save(Ingredient.builder()
+                    .name("Ingredient " + i)
+                    .unit("kg")
+                    .currentStock(BigDecimal.TEN)
+                    .minStock(BigDecimal.ONE)
+                    .restaurant(restaurant)
+                    .build());
+        }
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+        entityManager.clear();
+        session.setJdbcBatchSize(null);
+        return rows * 1_000_000_000d / elapsed;
+    }
+}
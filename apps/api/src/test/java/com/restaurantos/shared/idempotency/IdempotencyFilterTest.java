@@ -0,0 +1,200 @@
+package com.restaurantos.shared.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.restaurantos.modules.auth.entity.UserRole;
+import com.restaurantos.modules.auth.security.AuthenticatedUser;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTest {
+
+    private static final String ORDERS = "/api/restaurants/5f0c/orders";
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+    private int status;
+    private String receivedBody;
+
+    @BeforeEach
+    void setUp() {
+        // Configured like Boot's mapper, which the error responses need for ApiResponse.timestamp
+        filter = new IdempotencyFilter(List.of("/api/restaurants/*/orders", "/api/payments/*/initiate"), 60, 100,
+                Jackson2ObjectMapperBuilder.json().build());
+        executions = new AtomicInteger();
+        status = 201;
+        authenticate("staff-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void retry_ShouldReplayStoredResponseWithoutRunningTwice() throws Exception {
+        // Given
+        MockHttpServletResponse first = send(ORDERS, "key-1");
+
+        // When
+        MockHttpServletResponse retry = send(ORDERS, "key-1");
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void keys_ShouldBeScopedToCallerAndEndpoint() throws Exception {
+        // Given
+        send(ORDERS, "key-1");
+
+        // When
+        send("/api/payments/momo/initiate", "key-1");
+        authenticate("staff-2");
+        send(ORDERS, "key-1");
+
+        // Then
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    void tokenPrincipal_ShouldBeScopedByUserId() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        authenticate(new AuthenticatedUser(userId, "staff-1", UserRole.STAFF, UUID.randomUUID()));
+        send(ORDERS, "key-1");
+
+        // When
+        authenticate(new AuthenticatedUser(userId, "staff-1", UserRole.MANAGER, UUID.randomUUID()));
+        MockHttpServletResponse retry = send(ORDERS, "key-1");
+        authenticate(new AuthenticatedUser(UUID.randomUUID(), "staff-1", UserRole.STAFF, null));
+        send(ORDERS, "key-1");
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void failedRequest_ShouldNotBeStored() throws Exception {
+        // Given
+        status = 500;
+        send(ORDERS, "key-1");
+
+        // When
+        status = 201;
+        MockHttpServletResponse retry = send(ORDERS, "key-1");
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void keyReusedWithDifferentBody_ShouldBeRejected() throws Exception {
+        // Given
+        MockHttpServletResponse first = send(ORDERS, "key-1", "{\"tableId\":1}");
+
+        // When
+        MockHttpServletResponse reuse = send(ORDERS, "key-1", "{\"tableId\":2}");
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(receivedBody).isEqualTo("{\"tableId\":1}");
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(reuse.getStatus()).isEqualTo(422);
+        assertThat(reuse.getContentAsString()).contains("different request body");
+        assertThat(reuse.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void requestsWithoutKeyOrOutsideConfiguredPaths_ShouldPassThrough() throws Exception {
+        // When
+        send(ORDERS, null);
+        send(ORDERS, null);
+        send("/api/restaurants/5f0c/tables", "key-1");
+        send("/api/restaurants/5f0c/tables", "key-1");
+
+        // Then
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    void retryWhileFirstIsRunning_ShouldBeRejected() throws Exception {
+        // Given
+        MockHttpServletResponse[] concurrent = new MockHttpServletResponse[1];
+        FilterChain reentrant = (request, response) -> {
+            executions.incrementAndGet();
+            concurrent[0] = send(ORDERS, "key-1");
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // When
+        filter.doFilter(request(ORDERS, "key-1"), new MockHttpServletResponse(), reentrant);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(concurrent[0].getStatus()).isEqualTo(409);
+        assertThat(concurrent[0].getContentAsString()).contains("still in progress");
+    }
+
+    private MockHttpServletResponse send(String uri, String key) throws IOException, ServletException {
+        return send(uri, key, "{}");
+    }
+
+    private MockHttpServletResponse send(String uri, String key, String body) throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest request = request(uri, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            receivedBody = new String(servletRequest.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            int execution = executions.incrementAndGet();
+            writeBody((HttpServletResponse) servletResponse, execution);
+        });
+        return response;
+    }
+
+    private void writeBody(HttpServletResponse response, int execution) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(("{\"execution\":" + execution + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MockHttpServletRequest request(String uri, String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        return request;
+    }
+
+    private static void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.restaurantos.shared.loadtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.restaurantos.modules.auth.entity.User;
+import com.restaurantos.modules.auth.entity.UserRole;
+import com.restaurantos.modules.auth.repository.UserRepository;
+import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.modules.table.entity.RestaurantTable;
+import com.restaurantos.modules.table.repository.TableRepository;
+
+/**
+ * Seeds load-test restaurants the way {@code DataSeeder} seeds the demo one:
+ * each restaurant gets staff, kitchen and manager users, a menu split into
+ * categories, and a floor of tables.
+ */
+final class DinnerRushFixtures {
+
+    static final String PASSWORD = "password123";
+
+    private static final int CATEGORIES = 4;
+
+    private final RestaurantRepository restaurantRepository;
+    private final UserRepository userRepository;
+    private final MenuCategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final TableRepository tableRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    DinnerRushFixtures(RestaurantRepository restaurantRepository, UserRepository userRepository,
+            MenuCategoryRepository categoryRepository, MenuItemRepository menuItemRepository,
+            TableRepository tableRepository, PasswordEncoder passwordEncoder) {
+        this.restaurantRepository = restaurantRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.tableRepository = tableRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    List<SeededRestaurant> seed(int restaurants, int tablesPerRestaurant, int itemsPerRestaurant) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<SeededRestaurant> seeded = new ArrayList<>();
+        for (int n = 1; n <= restaurants; n++) {
+            Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                    .name("Load Restaurant " + n)
+                    .slug("load-restaurant-" + n)
+                    .build());
+
+            List<MenuCategory> categories = new ArrayList<>();
+            for (int c = 0; c < CATEGORIES; c++) {
+                categories.add(MenuCategory.builder()
+                        .name("Category " + (c + 1))
+                        .displayOrder(c)
+                        .restaurant(restaurant)
+                        .build());
+            }
+            categoryRepository.saveAll(categories);
+
+            List<MenuItem> items = new ArrayList<>();
+            for (int i = 0; i < itemsPerRestaurant; i++) {
+                items.add(MenuItem.builder()
+                        .name("Dish " + (i + 1))
+                        .description("Load-test dish " + (i + 1))
+                        .price(BigDecimal.valueOf(30_000L + 5_000L * (i % 20)))
+                        .prepTime(5 + i % 20)
+                        .displayOrder(i)
+                        .restaurant(restaurant)
+                        .category(categories.get(i % CATEGORIES))
+                        .build());
+            }
+            menuItemRepository.saveAll(items);
+
+            List<RestaurantTable> tables = new ArrayList<>();
+            for (int t = 1; t <= tablesPerRestaurant; t++) {
+                tables.add(RestaurantTable.builder()
+                        .tableNumber(t)
+                        .capacity(2 + 2 * (t % 3))
+                        .qrCodeToken(UUID.randomUUID().toString())
+                        .restaurant(restaurant)
+                        .build());
+            }
+            tableRepository.saveAll(tables);
+
+            seeded.add(new SeededRestaurant(restaurant.getId(),
+                    saveUser(restaurant, n, UserRole.STAFF, passwordHash),
+                    saveUser(restaurant, n, UserRole.KITCHEN, passwordHash),
+                    saveUser(restaurant, n, UserRole.MANAGER, passwordHash),
+                    items.stream().map(MenuItem::getId).toList(),
+                    tables.stream().map(RestaurantTable::getId).toList()));
+        }
+        return seeded;
+    }
+
+    private String saveUser(Restaurant restaurant, int n, UserRole role, String passwordHash) {
+        String username = role.name().toLowerCase() + "-" + n;
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@load.test")
+                .passwordHash(passwordHash)
+                .fullName(role.name() + " " + n)
+                .role(role)
+                .restaurant(restaurant)
+                .isActive(true)
+                .build());
+        return username;
+    }
+
+    record SeededRestaurant(UUID id, String staffUsername, String kitchenUsername, String managerUsername,
+            List<UUID> menuItemIds, List<UUID> tableIds) {
+    }
+}
@@ -0,0 +1,433 @@
+package com.restaurantos.shared.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.modules.auth.repository.UserRepository;
+import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+import com.restaurantos.modules.order.entity.OrderItemStatus;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.modules.table.repository.TableRepository;
+import com.restaurantos.shared.loadtest.DinnerRushFixtures.SeededRestaurant;
+
+/**
+ * Simulates a dinner rush against an embedded instance and reports
+ * throughput and a latency histogram per endpoint. Closed-loop clients, each
+ * bound to one seeded restaurant, mix order creation, kitchen item status
+ * updates, dashboard polls and menu reads while STOMP subscribers listen on
+ * every restaurant's kitchen and dashboard topics. Excluded from the default
+ * build; run with {@code ./mvnw test -Ploadtest}.
+ *
+ * <ul>
+ * <li>{@code -Dloadtest.restaurants=<n>} restaurants to seed, 5 by default</li>
+ * <li>{@code -Dloadtest.tables=<n>} and {@code -Dloadtest.items=<n>} tables and
+ * menu items per restaurant, 20 and 40 by default</li>
+ * <li>{@code -Dloadtest.clients=<n>} concurrent HTTP clients, 32 by default</li>
+ * <li>{@code -Dloadtest.subscribers=<n>} STOMP sessions per restaurant, 2 by
+ * default</li>
+ * <li>{@code -Dloadtest.warmup=<s>} and {@code -Dloadtest.duration=<s>} warm-up
+ * and measured seconds, 10 and 60 by default</li>
+ * <li>{@code -Dloadtest.result=<file>} JSON report, by default
+ * {@code target/loadtest/dinner-rush.json}</li>
+ * </ul>
+ *
+ * <p>Runs on the in-memory H2 database. To run against a local MySQL instead,
+ * pass {@code -Dspring.datasource.url=jdbc:mysql://...} together with the
+ * matching username, password and
+ * {@code -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "jwt.secret=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970",
+        "jwt.expiration=86400000"
+})
+@ActiveProfiles("test")
+class DinnerRushLoadTest {
+
+    private static final int RESTAURANTS = Integer.getInteger("loadtest.restaurants", 5);
+    private static final int TABLES = Integer.getInteger("loadtest.tables", 20);
+    private static final int ITEMS = Integer.getInteger("loadtest.items", 40);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final int SUBSCRIBERS = Integer.getInteger("loadtest.subscribers", 2);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 60);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MenuCategoryRepository categoryRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<Endpoint, LatencyHistogram> histograms = new EnumMap<>(Endpoint.class);
+    private final LongAdder kitchenMessages = new LongAdder();
+    private final LongAdder dashboardMessages = new LongAdder();
+    private volatile long measureFrom;
+
+    @Test
+    void dinnerRush() throws Exception {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new LatencyHistogram());
+        }
+        List<Diner> diners = new ArrayList<>();
+        for (SeededRestaurant restaurant : new DinnerRushFixtures(restaurantRepository, userRepository,
+                categoryRepository, menuItemRepository, tableRepository, passwordEncoder)
+                .seed(RESTAURANTS, TABLES, ITEMS)) {
+            diners.add(new Diner(restaurant, login(restaurant.staffUsername()),
+                    login(restaurant.kitchenUsername()), login(restaurant.managerUsername())));
+        }
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        List<StompSession> sessions = subscribe(stompClient, diners);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long until = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        long kitchenBefore = 0;
+        long dashboardBefore = 0;
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                Diner diner = diners.get(c % diners.size());
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < until) {
+                        diner.next();
+                    }
+                    return null;
+                }));
+            }
+            TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+            kitchenBefore = kitchenMessages.sum();
+            dashboardBefore = dashboardMessages.sum();
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdownNow();
+            sessions.forEach(StompSession::disconnect);
+            stompClient.stop();
+        }
+
+        File result = new File(System.getProperty("loadtest.result", "target/loadtest/dinner-rush.json"));
+        result.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(result,
+                report(kitchenMessages.sum() - kitchenBefore, dashboardMessages.sum() - dashboardBefore));
+
+        assertThat(histograms.values()).allSatisfy(histogram -> assertThat(histogram.count()).isPositive());
+        assertThat(kitchenMessages.sum() + dashboardMessages.sum()).isPositive();
+        assertThat(result).isNotEmpty();
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(post("/api/auth/login", null, Map.of(
+                "username", username,
+                "password", DinnerRushFixtures.PASSWORD)), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).path("data").path("accessToken").asText();
+    }
+
+    private List<StompSession> subscribe(WebSocketStompClient stompClient, List<Diner> diners) throws Exception {
+        // The endpoint is registered with SockJS, which serves raw WebSocket under /websocket
+        String url = "ws://localhost:" + port + "/ws/websocket";
+        List<StompSession> sessions = new ArrayList<>();
+        for (Diner diner : diners) {
+            // The handshake goes through the security filter chain like any other request
+            WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+            headers.setBearerAuth(diner.staffToken);
+            for (int s = 0; s < SUBSCRIBERS; s++) {
+                StompSession session = stompClient.connectAsync(url, headers, new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+                String topic = "/topic/restaurants/" + diner.restaurant.id();
+                session.subscribe(topic + "/kitchen", counting(kitchenMessages));
+                session.subscribe(topic + "/dashboard", counting(dashboardMessages));
+                sessions.add(session);
+            }
+        }
+        return sessions;
+    }
+
+    private static StompFrameHandler counting(LongAdder counter) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                counter.increment();
+            }
+        };
+    }
+
+    private Map<String, Object> report(long kitchenDelivered, long dashboardDelivered) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("Dinner rush: %d restaurants, %d clients, %ds measured after %ds warm-up%n",
+                RESTAURANTS, CLIENTS, DURATION_SECONDS, WARMUP_SECONDS);
+        System.out.printf("  %-34s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "mean", "p50", "p99", "p99.9", "max");
+        for (Map.Entry<Endpoint, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            double throughput = (double) histogram.count() / DURATION_SECONDS;
+            System.out.printf("  %-34s %,9d %,7d %,9.1f %6.1fms %6.1fms %6.1fms %6.1fms %6.1fms%n",
+                    entry.getKey().label, histogram.count(), histogram.errors(), throughput,
+                    histogram.meanMillis(), histogram.percentileMillis(50), histogram.percentileMillis(99),
+                    histogram.percentileMillis(99.9), histogram.maxMillis());
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", histogram.count());
+            stats.put("errors", histogram.errors());
+            stats.put("throughputPerSecond", throughput);
+            stats.put("meanMillis", histogram.meanMillis());
+            stats.put("p50Millis", histogram.percentileMillis(50));
+            stats.put("p90Millis", histogram.percentileMillis(90));
+            stats.put("p99Millis", histogram.percentileMillis(99));
+            stats.put("p999Millis", histogram.percentileMillis(99.9));
+            stats.put("maxMillis", histogram.maxMillis());
+            stats.put("histogramMillis", histogram.buckets());
+            endpoints.put(entry.getKey().label, stats);
+        }
+        System.out.printf("  STOMP deliveries: %,d kitchen, %,d dashboard to %d subscribers%n",
+                kitchenDelivered, dashboardDelivered, RESTAURANTS * SUBSCRIBERS);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("restaurants", RESTAURANTS);
+        report.put("tablesPerRestaurant", TABLES);
+        report.put("itemsPerRestaurant", ITEMS);
+        report.put("clients", CLIENTS);
+        report.put("warmupSeconds", WARMUP_SECONDS);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("endpoints", endpoints);
+        report.put("websocket", Map.of(
+                "subscribers", RESTAURANTS * SUBSCRIBERS,
+                "kitchenMessages", kitchenDelivered,
+                "dashboardMessages", dashboardDelivered,
+                "messagesPerSecond", (double) (kitchenDelivered + dashboardDelivered) / DURATION_SECONDS));
+        return report;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return json(path, token).POST(HttpRequest.BodyPublishers.ofByteArray(
+                objectMapper.writeValueAsBytes(body))).build();
+    }
+
+    private HttpRequest put(String path, String token, Object body) throws IOException {
+        return json(path, token).PUT(HttpRequest.BodyPublishers.ofByteArray(
+                objectMapper.writeValueAsBytes(body))).build();
+    }
+
+    private HttpRequest.Builder json(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json");
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * Sends a request and records its latency against the endpoint once the
+     * warm-up is over. Returns the body of a 2xx response, otherwise null.
+     */
+    private byte[] send(Endpoint endpoint, HttpRequest request) throws InterruptedException {
+        boolean measured = System.nanoTime() >= measureFrom;
+        LatencyHistogram histogram = histograms.get(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean ok = response.statusCode() / 100 == 2;
+            if (measured) {
+                if (ok) {
+                    histogram.record(elapsed);
+                } else {
+                    histogram.recordError();
+                }
+            }
+            return ok ? response.body() : null;
+        } catch (IOException e) {
+            if (measured) {
+                histogram.recordError();
+            }
+            return null;
+        }
+    }
+
+    private enum Endpoint {
+        CREATE_ORDER("POST /orders", 20),
+        UPDATE_ITEM_STATUS("PUT /order-items/{id}/status", 25),
+        DASHBOARD_SUMMARY("GET /dashboard/summary", 10),
+        MENU_ITEMS("GET /items", 30),
+        ACTIVE_CATEGORIES("GET /categories/active", 15);
+
+        private final String label;
+        private final int weight;
+
+        Endpoint(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        static Endpoint pick(int roll) {
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+            return MENU_ITEMS;
+        }
+    }
+
+    /**
+     * One restaurant's traffic: waiters placing orders, the kitchen moving
+     * items along, a manager watching the dashboard and guests browsing the
+     * menu. Item status updates work through the items of orders placed
+     * earlier, so the kitchen only falls behind when order creation outpaces
+     * it.
+     */
+    private final class Diner {
+
+        private static final int TOTAL_WEIGHT = 100;
+
+        private final SeededRestaurant restaurant;
+        private final String staffToken;
+        private final String kitchenToken;
+        private final String managerToken;
+        private final String basePath;
+        private final Queue<PendingItem> kitchenQueue = new ConcurrentLinkedQueue<>();
+
+        Diner(SeededRestaurant restaurant, String staffToken, String kitchenToken, String managerToken) {
+            this.restaurant = restaurant;
+            this.staffToken = staffToken;
+            this.kitchenToken = kitchenToken;
+            this.managerToken = managerToken;
+            this.basePath = "/api/restaurants/" + restaurant.id();
+        }
+
+        void next() throws IOException, InterruptedException {
+            switch (Endpoint.pick(ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT))) {
+                case CREATE_ORDER -> createOrder();
+                case UPDATE_ITEM_STATUS -> advanceItem();
+                case DASHBOARD_SUMMARY -> send(Endpoint.DASHBOARD_SUMMARY,
+                        get(basePath + "/dashboard/summary", managerToken));
+                case MENU_ITEMS -> send(Endpoint.MENU_ITEMS, get(basePath + "/items", staffToken));
+                case ACTIVE_CATEGORIES -> send(Endpoint.ACTIVE_CATEGORIES,
+                        get(basePath + "/categories/active", staffToken));
+            }
+        }
+
+        private void createOrder() throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Map<String, Object>> items = new ArrayList<>();
+            int lines = 1 + random.nextInt(5);
+            for (int i = 0; i < lines; i++) {
+                items.add(Map.of(
+                        "menuItemId", pick(restaurant.menuItemIds()),
+                        "quantity", 1 + random.nextInt(3)));
+            }
+            byte[] body = send(Endpoint.CREATE_ORDER, post(basePath + "/orders", staffToken, Map.of(
+                    "tableId", pick(restaurant.tableIds()),
+                    "paymentMethod", "CASH",
+                    "items", items)));
+            if (body != null) {
+                for (JsonNode item : objectMapper.readTree(body).path("data").path("items")) {
+                    kitchenQueue.add(new PendingItem(UUID.fromString(item.path("id").asText()),
+                            OrderItemStatus.PENDING));
+                }
+            }
+        }
+
+        private void advanceItem() throws IOException, InterruptedException {
+            PendingItem item = kitchenQueue.poll();
+            if (item == null) {
+                createOrder();
+                return;
+            }
+            OrderItemStatus next = OrderItemStatus.values()[item.status().ordinal() + 1];
+            byte[] body = send(Endpoint.UPDATE_ITEM_STATUS, put(basePath + "/order-items/" + item.id() + "/status",
+                    kitchenToken, Map.of("status", next)));
+            if (body != null && next != OrderItemStatus.SERVED) {
+                kitchenQueue.add(new PendingItem(item.id(), next));
+            }
+        }
+
+        private UUID pick(List<UUID> ids) {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+    }
+
+    private record PendingItem(UUID id, OrderItemStatus status) {
+    }
+}
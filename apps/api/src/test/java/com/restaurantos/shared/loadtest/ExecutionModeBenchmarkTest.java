@@ -0,0 +1,233 @@
+package com.restaurantos.shared.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurantos.ApiApplication;
+import com.restaurantos.modules.auth.repository.UserRepository;
+import com.restaurantos.modules.menu.repository.MenuCategoryRepository;
+import com.restaurantos.modules.menu.repository.MenuItemRepository;
+import com.restaurantos.modules.restaurant.repository.RestaurantRepository;
+import com.restaurantos.modules.table.repository.TableRepository;
+import com.restaurantos.shared.loadtest.DinnerRushFixtures.SeededRestaurant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compares how many order requests one node keeps in flight on platform and
+ * on virtual request threads. The application is booted once per mode and a
+ * burst of concurrent {@code POST /orders} is fired at it; every order first
+ * waits on a simulated downstream call, standing in for a slow payment
+ * gateway or PDF render, before reaching the service. On platform threads the
+ * Tomcat worker pool caps the requests in flight, on virtual threads only the
+ * connection pool does. Excluded from the default build; run with
+ * {@code ./mvnw test -Pbenchmark}.
+ *
+ * <ul>
+ * <li>{@code -Dbenchmark.orders=<n>} concurrent orders per mode, 1000 by
+ * default</li>
+ * <li>{@code -Dbenchmark.downstream-ms=<ms>} simulated downstream latency, 200
+ * by default</li>
+ * </ul>
+ */
+@Tag("benchmark")
+class ExecutionModeBenchmarkTest {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 1000);
+    private static final long DOWNSTREAM_MILLIS = Long.getLong("benchmark.downstream-ms", 200);
+    private static final int RESTAURANTS = 5;
+
+    @Test
+    void inFlightOrders_PlatformVersusVirtualThreads() throws Exception {
+        ModeResult platform = run(false);
+        ModeResult virtual = run(true);
+
+        System.out.printf("%,d concurrent orders, %dms simulated downstream call each%n", ORDERS, DOWNSTREAM_MILLIS);
+        System.out.printf("  %-16s %9s %7s %9s %8s %8s %8s%n",
+                "mode", "in-flight", "errors", "orders/s", "p50", "p99", "max");
+        for (ModeResult result : List.of(platform, virtual)) {
+            System.out.printf("  %-16s %,9d %,7d %,9.1f %6.0fms %6.0fms %6.0fms%n",
+                    result.mode(), result.peakInFlight(), result.latency().errors(),
+                    result.latency().count() * 1_000.0 / result.elapsedMillis(),
+                    result.latency().percentileMillis(50), result.latency().percentileMillis(99),
+                    result.latency().maxMillis());
+        }
+
+        assertThat(virtual.peakInFlight()).isGreaterThan(platform.peakInFlight());
+    }
+
+    private ModeResult run(boolean virtualThreads) throws Exception {
+        InFlightFilter inFlight = new InFlightFilter();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.jpa.show-sql=false",
+                        "jwt.secret=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970",
+                        "jwt.expiration=86400000")
+                .initializers(applicationContext -> {
+                    GenericApplicationContext generic = (GenericApplicationContext) applicationContext;
+                    generic.registerBean(ExcludeTestConfigurations.class);
+                    generic.registerBean("inFlightFilter", FilterRegistrationBean.class, () -> {
+                        FilterRegistrationBean<InFlightFilter> registration = new FilterRegistrationBean<>(inFlight);
+                        registration.addUrlPatterns("/api/restaurants/*");
+                        return registration;
+                    });
+                })
+                .run()) {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<SeededRestaurant> restaurants = new DinnerRushFixtures(context.getBean(RestaurantRepository.class),
+                    context.getBean(UserRepository.class), context.getBean(MenuCategoryRepository.class),
+                    context.getBean(MenuItemRepository.class), context.getBean(TableRepository.class),
+                    context.getBean(PasswordEncoder.class))
+                    .seed(RESTAURANTS, 10, 20);
+
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            List<String> tokens = new ArrayList<>();
+            for (SeededRestaurant restaurant : restaurants) {
+                HttpResponse<byte[]> login = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(Map.of(
+                                "username", restaurant.staffUsername(),
+                                "password", DinnerRushFixtures.PASSWORD))))
+                        .build(), HttpResponse.BodyHandlers.ofByteArray());
+                tokens.add(objectMapper.readTree(login.body()).path("data").path("accessToken").asText());
+            }
+
+            LatencyHistogram latency = new LatencyHistogram();
+            long start = System.nanoTime();
+            // Client-side virtual threads, so the client never limits the burst
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> sent = new ArrayList<>();
+                for (int i = 0; i < ORDERS; i++) {
+                    int n = i % RESTAURANTS;
+                    HttpRequest request = orderRequest(objectMapper, baseUrl, restaurants.get(n), tokens.get(n));
+                    sent.add(clients.submit(() -> {
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 == 2) {
+                                latency.record(System.nanoTime() - sentAt);
+                            } else {
+                                latency.recordError();
+                            }
+                        } catch (IOException e) {
+                            latency.recordError();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> order : sent) {
+                    order.get();
+                }
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new ModeResult(virtualThreads ? "virtual threads" : "platform threads", inFlight.peak.get(),
+                    latency, Math.max(1, elapsedMillis));
+        }
+    }
+
+    private static HttpRequest orderRequest(ObjectMapper objectMapper, String baseUrl, SeededRestaurant restaurant,
+            String token) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> body = Map.of(
+                "tableId", restaurant.tableIds().get(random.nextInt(restaurant.tableIds().size())),
+                "paymentMethod", "CASH",
+                "items", List.of(Map.of(
+                        "menuItemId", restaurant.menuItemIds().get(random.nextInt(restaurant.menuItemIds().size())),
+                        "quantity", 1)));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/restaurants/" + restaurant.id() + "/orders"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    /**
+     * Tracks order requests currently being served, holding each one on the
+     * request thread for the simulated downstream latency.
+     */
+    private static final class InFlightFilter extends OncePerRequestFilter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+            return !"POST".equals(request.getMethod()) || !request.getRequestURI().endsWith("/orders");
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(DOWNSTREAM_MILLIS);
+                filterChain.doFilter(request, response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Outside {@code @SpringBootTest} nothing keeps component scanning from
+     * picking up the {@code @TestConfiguration} classes of other tests.
+     */
+    private static final class ExcludeTestConfigurations extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().isAnnotated(TestConfiguration.class.getName());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && obj.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+
+    private record ModeResult(String mode, int peakInFlight, LatencyHistogram latency, long elapsedMillis) {
+    }
+}
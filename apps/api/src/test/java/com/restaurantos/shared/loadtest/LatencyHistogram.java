@@ -0,0 +1,98 @@
+package com.restaurantos.shared.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-scaled buckets. Each bucket is 5% wider
+ * than the previous one, so reported percentiles are within 5% of the true
+ * value from one microsecond up to several minutes.
+ */
+final class LatencyHistogram {
+
+    private static final double GROWTH = 1.05;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 400;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(bucketOf(micros));
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double meanMillis() {
+        long count = count();
+        return count == 0 ? 0 : totalMicros.sum() / 1_000.0 / count;
+    }
+
+    double maxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, in
+     * milliseconds.
+     */
+    double percentileMillis(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i), maxMicros.get()) / 1_000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    /**
+     * Non-empty buckets keyed by their upper bound in milliseconds.
+     */
+    Map<Double, Long> buckets() {
+        Map<Double, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                buckets.put(upperBoundMicros(i) / 1_000.0, count);
+            }
+        }
+        return buckets;
+    }
+
+    private static int bucketOf(long micros) {
+        return (int) Math.min(BUCKETS - 1, Math.ceil(Math.log(micros) / LOG_GROWTH));
+    }
+
+    private static long upperBoundMicros(int bucket) {
+        return (long) Math.ceil(Math.pow(GROWTH, bucket));
+    }
+}
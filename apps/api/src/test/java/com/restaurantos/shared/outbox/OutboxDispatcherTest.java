@@ -0,0 +1,151 @@
+package com.restaurantos.shared.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxDispatcher dispatcher;
+    private List<String> delivered;
+    private Set<String> failing;
+
+    @BeforeEach
+    void setUp() {
+        delivered = new CopyOnWriteArrayList<>();
+        failing = Set.of("broken");
+        OutboxEventHandler<TestEvent> handler = new OutboxEventHandler<>() {
+            @Override
+            public Class<TestEvent> eventType() {
+                return TestEvent.class;
+            }
+
+            @Override
+            public void handle(TestEvent event) {
+                if (failing.contains(event.name())) {
+                    throw new IllegalStateException("boom");
+                }
+                delivered.add(event.name());
+            }
+        };
+        dispatcher = new OutboxDispatcher(repository, new ObjectMapper(), transactionManager, List.of(handler),
+                10, 2, 3, 60, 5, 7, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatchBatch_ShouldDeliverPayloadAndMarkProcessed() {
+        // Given
+        OutboxEvent event = event(UUID.randomUUID(), "first", 0);
+        when(repository.findDue(eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(List.of(event));
+        when(repository.claim(eq(event.getId()), eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(1);
+
+        // When
+        int read = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(read).isEqualTo(1);
+        assertThat(delivered).containsExactly("first");
+        verify(repository).markProcessed(eq(event.getId()), eq(OutboxEventStatus.PROCESSED), any());
+    }
+
+    @Test
+    void dispatchBatch_WhenEventFails_ShouldHoldBackOnlyItsAggregate() {
+        // Given
+        UUID orderA = UUID.randomUUID();
+        UUID orderB = UUID.randomUUID();
+        OutboxEvent brokenA = event(orderA, "broken", 0);
+        OutboxEvent laterA = event(orderA, "later", 0);
+        OutboxEvent firstB = event(orderB, "other", 0);
+        when(repository.findDue(eq(OutboxEventStatus.PENDING), any(), any()))
+                .thenReturn(List.of(brokenA, firstB, laterA));
+        when(repository.claim(any(), eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(1);
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(delivered).containsExactly("other");
+        verify(repository).markFailed(eq(brokenA.getId()), eq(OutboxEventStatus.PENDING),
+                any(LocalDateTime.class), contains("boom"));
+        verify(repository, never()).claim(eq(laterA.getId()), any(), any(), any());
+        verify(repository).markProcessed(eq(firstB.getId()), eq(OutboxEventStatus.PROCESSED), any());
+    }
+
+    @Test
+    void dispatchBatch_OnLastAttempt_ShouldMarkEventFailed() {
+        // Given
+        OutboxEvent event = event(UUID.randomUUID(), "broken", 2);
+        when(repository.findDue(eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(List.of(event));
+        when(repository.claim(eq(event.getId()), eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(1);
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(repository).markFailed(eq(event.getId()), eq(OutboxEventStatus.FAILED), any(), any());
+        verify(repository, never()).markProcessed(any(), any(), any());
+    }
+
+    @Test
+    void dispatchBatch_WhenClaimedByAnotherNode_ShouldSkipEvent() {
+        // Given
+        OutboxEvent event = event(UUID.randomUUID(), "first", 0);
+        when(repository.findDue(eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(List.of(event));
+        when(repository.claim(eq(event.getId()), eq(OutboxEventStatus.PENDING), any(), any())).thenReturn(0);
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(delivered).isEmpty();
+        verify(repository, never()).markProcessed(any(), any(), any());
+    }
+
+    private OutboxEvent event(UUID aggregateId, String name, int attempts) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType("Order")
+                .aggregateId(aggregateId)
+                .eventType(OutboxPublisher.eventType(TestEvent.class))
+                .payload("{\"name\":\"" + name + "\"}")
+                .attempts(attempts)
+                .availableAt(LocalDateTime.now())
+                .build();
+        event.setId(UUID.randomUUID());
+        return event;
+    }
+
+    record TestEvent(String name) {
+    }
+}
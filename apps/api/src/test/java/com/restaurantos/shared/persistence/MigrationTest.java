@@ -0,0 +1,82 @@
+package com.restaurantos.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Applies every migration to an empty H2 database in MySQL mode and checks
+ * that each mapped entity ends up with a table.
+ */
+class MigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void migrate_ShouldApplyAllMigrationsAndCreateEveryEntityTable() throws Exception {
+        // Given
+        Flyway flyway = Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                // Online index options are MySQL-only
+                .placeholders(Map.of("online_ddl", ""))
+                .load();
+        Resource[] scripts = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/V*.sql");
+
+        // When
+        MigrateResult result = flyway.migrate();
+
+        // Then
+        assertThat(result.success).isTrue();
+        assertThat(result.migrationsExecuted).isEqualTo(scripts.length);
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(existingTables()).containsAll(entityTables());
+    }
+
+    private Set<String> existingTables() throws Exception {
+        Set<String> tables = new HashSet<>();
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getTables(null, null, "%", new String[] { "TABLE" })) {
+                while (rs.next()) {
+                    tables.add(rs.getString("TABLE_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return tables;
+    }
+
+    private Set<String> entityTables() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        return scanner.findCandidateComponents("com.restaurantos").stream()
+                .map(definition -> {
+                    try {
+                        return Class.forName(definition.getBeanClassName()).getAnnotation(Table.class).name();
+                    } catch (ClassNotFoundException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(Collectors.toSet());
+    }
+}
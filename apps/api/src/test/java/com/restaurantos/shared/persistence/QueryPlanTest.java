@@ -0,0 +1,246 @@
+package com.restaurantos.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.restaurantos.modules.auth.entity.User;
+import com.restaurantos.modules.auth.entity.UserRole;
+import com.restaurantos.modules.inventory.entity.Ingredient;
+import com.restaurantos.modules.inventory.repository.IngredientRepository;
+import com.restaurantos.modules.menu.entity.MenuCategory;
+import com.restaurantos.modules.menu.entity.MenuItem;
+import com.restaurantos.modules.notification.entity.Notification;
+import com.restaurantos.modules.notification.entity.NotificationType;
+import com.restaurantos.modules.notification.repository.NotificationRepository;
+import com.restaurantos.modules.order.entity.Order;
+import com.restaurantos.modules.order.entity.OrderItem;
+import com.restaurantos.modules.order.entity.OrderStatus;
+import com.restaurantos.modules.order.repository.OrderItemRepository;
+import com.restaurantos.modules.order.repository.OrderRepository;
+import com.restaurantos.modules.restaurant.entity.Restaurant;
+import com.restaurantos.shared.config.JpaConfig;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs EXPLAIN on the SQL behind the hot per-restaurant repository queries
+ * and fails if any of them reads a whole table instead of an index. The SQL
+ * is captured from Hibernate, so the check follows the queries as they
+ * change.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.restaurantos.shared.persistence.QueryPlanTest$RecordingStatementInspector" })
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final String FULL_SCAN = "tablescan";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    private UUID restaurantId;
+    private UUID userId;
+    private List<UUID> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        // Enough rows, spread over two restaurants, that the planner has a reason to prefer indexes
+        for (int r = 0; r < 2; r++) {
+            Restaurant restaurant = Restaurant.builder()
+                    .name("Plan Resto " + r)
+                    .slug("plan-resto-" + r)
+                    .build();
+            entityManager.persist(restaurant);
+            MenuCategory category = MenuCategory.builder()
+                    .name("Mains")
+                    .restaurant(restaurant)
+                    .build();
+            entityManager.persist(category);
+            MenuItem menuItem = MenuItem.builder()
+                    .name("Pho")
+                    .price(BigDecimal.TEN)
+                    .restaurant(restaurant)
+                    .category(category)
+                    .build();
+            entityManager.persist(menuItem);
+            User user = User.builder()
+                    .username("planner" + r)
+                    .email("planner" + r + "@example.com")
+                    .passwordHash("hash")
+                    .fullName("Plan User")
+                    .role(UserRole.STAFF)
+                    .restaurant(restaurant)
+                    .build();
+            entityManager.persist(user);
+
+            orderIds = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Order order = Order.builder()
+                        .restaurant(restaurant)
+                        .orderNumber("26021600" + i)
+                        .status(OrderStatus.values()[i % OrderStatus.values().length])
+                        .subtotal(BigDecimal.TEN)
+                        .totalAmount(BigDecimal.TEN)
+                        .build();
+                for (int j = 0; j < 3; j++) {
+                    order.addItem(OrderItem.builder()
+                            .menuItem(menuItem)
+                            .itemName("Pho")
+                            .unitPrice(BigDecimal.TEN)
+                            .quantity(1)
+                            .subtotal(BigDecimal.TEN)
+                            .build());
+                }
+                entityManager.persist(order);
+                orderIds.add(order.getId());
+
+                entityManager.persist(Notification.builder()
+                        .user(user)
+                        .type(NotificationType.NEW_ORDER)
+                        .title("New order")
+                        .message("Order " + i)
+                        .isRead(i % 2 == 0)
+                        .build());
+                if (i % 5 == 0) {
+                    entityManager.persist(Ingredient.builder()
+                            .name("Ingredient " + i)
+                            .unit("kg")
+                            .restaurant(restaurant)
+                            .build());
+                }
+            }
+            restaurantId = restaurant.getId();
+            userId = user.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void hotQueries_ShouldBeServedByIndexes() {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        LocalDateTime end = LocalDateTime.now().plusDays(1);
+        UUID lastId = orderIds.get(orderIds.size() - 1);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("orders first page", () -> orderRepository
+                .findByRestaurantIdOrderByCreatedAtDescIdDesc(restaurantId, Limit.of(51)));
+        queries.put("orders next page", () -> orderRepository
+                .findNextPage(restaurantId, end, lastId, Limit.of(51)));
+        queries.put("orders by status first page", () -> orderRepository
+                .findByRestaurantIdAndStatusOrderByCreatedAtDescIdDesc(restaurantId, OrderStatus.PENDING,
+                        Limit.of(51)));
+        queries.put("orders by status next page", () -> orderRepository
+                .findNextPageByStatus(restaurantId, OrderStatus.PENDING, end, lastId, Limit.of(51)));
+        queries.put("dashboard order tallies", () -> orderRepository.findTallies(restaurantId, start, end));
+        queries.put("items of orders", () -> orderItemRepository.findByOrderIdIn(orderIds.subList(0, 10)));
+        queries.put("top dishes", () -> orderItemRepository
+                .findTopSellingItems(restaurantId, start, end, Pageable.ofSize(5)));
+        queries.put("unread notifications", () -> notificationRepository
+                .findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId));
+        queries.put("ingredients", () -> ingredientRepository.findByRestaurantIdOrderByNameAsc(restaurantId));
+        queries.put("low stock ingredients", () -> ingredientRepository
+                .findByRestaurantIdAndCurrentStockLessThanMinStock(restaurantId));
+
+        SoftAssertions softly = new SoftAssertions();
+        queries.forEach((name, query) -> {
+            RecordingStatementInspector.clear();
+            query.run();
+            List<String> selects = RecordingStatementInspector.selects();
+            softly.assertThat(selects).as(name).isNotEmpty();
+            for (String sql : selects) {
+                softly.assertThat(explain(sql).toLowerCase(Locale.ROOT))
+                        .as("%s%n%s", name, sql)
+                        .doesNotContain(FULL_SCAN);
+            }
+        });
+        softly.assertAll();
+    }
+
+    @Test
+    void explain_ShouldReportFullScansForUnindexedFilters() {
+        // Guards the harness itself: a filter on an unindexed column must be flagged
+        RecordingStatementInspector.clear();
+        entityManager.createQuery("SELECT o FROM Order o WHERE o.customerName = :name", Order.class)
+                .setParameter("name", "nobody")
+                .getResultList();
+
+        assertThat(explain(RecordingStatementInspector.selects().get(0)).toLowerCase(Locale.ROOT))
+                .contains(FULL_SCAN);
+    }
+
+    /**
+     * H2 explains a statement with unbound parameters, so the SQL can be used
+     * exactly as Hibernate generated it.
+     */
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                    ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+
+    /**
+     * Records the SQL Hibernate sends for the current thread.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.get().clear();
+        }
+
+        static List<String> selects() {
+            return STATEMENTS.get().stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                    .toList();
+        }
+    }
+}
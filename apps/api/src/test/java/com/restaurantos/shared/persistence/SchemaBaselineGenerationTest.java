@@ -0,0 +1,40 @@
+package com.restaurantos.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.restaurantos.shared.config.JpaConfig;
+
+/**
+ * Writes the MySQL DDL Hibernate derives from the current entities to
+ * {@value #TARGET}, using the production naming strategy. Diff it against the
+ * migrations when changing a mapping to see what the next migration needs.
+ * Run with {@code ./mvnw test -Pschema-baseline}.
+ */
+@Tag("schema-baseline")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.scripts.action=create",
+        "spring.jpa.properties.jakarta.persistence.schema-generation.scripts.create-target="
+                + SchemaBaselineGenerationTest.TARGET,
+        "spring.jpa.properties.hibernate.hbm2ddl.schema-generation.script.append=false",
+        "spring.jpa.properties.hibernate.hbm2ddl.delimiter=;",
+        "spring.jpa.properties.hibernate.format_sql=true" })
+@Import(JpaConfig.class)
+class SchemaBaselineGenerationTest {
+
+    static final String TARGET = "target/schema/baseline-mysql.sql";
+
+    @Test
+    void generate_ShouldWriteCreateScript() {
+        assertThat(Path.of(TARGET)).isNotEmptyFile();
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurantos.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.restaurantos.shared.config.JpaConfig;
+
+/**
+ * Starts the JPA layer the way production does: Flyway builds the schema from
+ * the migrations and Hibernate validates every entity against it
+ * ({@code ddl-auto=validate}), with the production naming strategy. A column
+ * name, type, nullability or enum that drifts from the migrations fails the
+ * context here rather than at deploy time.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-validation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=true",
+        // Online index options are MySQL-only
+        "spring.flyway.placeholders.online_ddl=",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class SchemaValidationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void contextLoads_ShouldValidateEntitiesAgainstMigratedSchema() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).isNotEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package com.restaurantos.shared.websocket.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastDispatcherTest {
+
+    private static final String KITCHEN = "/topic/restaurants/r1/kitchen";
+    private static final String DASHBOARD = "/topic/restaurants/r1/dashboard";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Captor
+    private ArgumentCaptor<Message<?>> messageCaptor;
+
+    private BroadcastDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new BroadcastDispatcher(messagingTemplate, new ObjectMapper(), new SimpleMeterRegistry(), 3, 50);
+    }
+
+    @Test
+    void flush_ShouldCollapseUpdatesForSameEntityOnSameDestination() {
+        // Given
+        dispatcher.submit(KITCHEN, Map.of("id", "order-1", "status", "PENDING"));
+        dispatcher.submit(KITCHEN, Map.of("id", "order-1", "status", "CONFIRMED"));
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        verify(messagingTemplate).send(eq(KITCHEN), messageCaptor.capture());
+        verifyNoMoreInteractions(messagingTemplate);
+        assertThat(new String((byte[]) messageCaptor.getValue().getPayload(), StandardCharsets.UTF_8))
+                .contains("CONFIRMED");
+        assertThat(dispatcher.getCoalescedCount()).isEqualTo(1);
+        assertThat(dispatcher.getSentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_ShouldCollapseBeanPayloadsByTheirId() {
+        // Given
+        dispatcher.submit(KITCHEN, new OrderUpdate("order-1", "PENDING"));
+        dispatcher.submit(KITCHEN, new OrderUpdate("order-2", "PENDING"));
+        dispatcher.submit(KITCHEN, new OrderUpdate("order-1", "READY"));
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        verify(messagingTemplate, times(2)).send(eq(KITCHEN), messageCaptor.capture());
+        assertThat(messageCaptor.getAllValues())
+                .extracting(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .containsExactly("{\"id\":\"order-1\",\"status\":\"READY\"}",
+                        "{\"id\":\"order-2\",\"status\":\"PENDING\"}");
+        assertThat(dispatcher.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_ShouldSerializeSharedPayloadOnce() {
+        // Given
+        Map<String, String> payload = Map.of("id", "order-1", "status", "READY");
+        dispatcher.submit(KITCHEN, payload);
+        dispatcher.submit(DASHBOARD, payload);
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        verify(messagingTemplate, times(2)).send(anyString(), messageCaptor.capture());
+        List<Message<?>> messages = messageCaptor.getAllValues();
+        assertThat(messages.get(0).getPayload()).isSameAs(messages.get(1).getPayload());
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldDropAndCount() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            dispatcher.submit(KITCHEN, "message " + i);
+        }
+
+        // Then
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(3);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(2);
+    }
+
+    private record OrderUpdate(String id, String status) {
+    }
+}
@@ -1,24 +1,29 @@
 package com.restaurantos.shared.websocket.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.UUID;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class WebSocketServiceImplTest {
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private BroadcastDispatcher dispatcher;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private WebSocketServiceImpl webSocketService;
 
     private UUID restaurantId;
@@ -28,6 +33,15 @@ class WebSocketServiceImplTest {
     void setUp() {
         restaurantId = UUID.randomUUID();
         orderId = UUID.randomUUID();
+        meterRegistry = new SimpleMeterRegistry();
+        webSocketService = new WebSocketServiceImpl(dispatcher, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -40,7 +54,7 @@ class WebSocketServiceImplTest {
         webSocketService.broadcastToKitchen(restaurantId, payload);
 
         // Then
-        verify(messagingTemplate).convertAndSend(expectedDestination, (Object) payload);
+        verify(dispatcher).submit(expectedDestination, payload);
     }
 
     @Test
@@ -53,7 +67,7 @@ class WebSocketServiceImplTest {
         webSocketService.broadcastToOrder(orderId, payload);
 
         // Then
-        verify(messagingTemplate).convertAndSend(expectedDestination, (Object) payload);
+        verify(dispatcher).submit(expectedDestination, payload);
     }
 
     @Test
@@ -66,6 +80,38 @@ class WebSocketServiceImplTest {
         webSocketService.broadcastToDashboard(restaurantId, payload);
 
         // Then
-        verify(messagingTemplate).convertAndSend(expectedDestination, (Object) payload);
+        verify(dispatcher).submit(expectedDestination, payload);
+    }
+
+    @Test
+    void broadcastInsideTransaction_ShouldWaitForCommit() {
+        // Given
+        String payload = "Order Update";
+        String expectedDestination = "/topic/orders/" + orderId;
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        webSocketService.broadcastToOrder(orderId, payload);
+
+        // Then
+        verify(dispatcher, never()).submit(expectedDestination, payload);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(dispatcher).submit(expectedDestination, payload);
+    }
+
+    @Test
+    void broadcast_ShouldCountPerTopic() {
+        // When
+        webSocketService.broadcastToKitchen(restaurantId, "a");
+        webSocketService.broadcastToKitchen(restaurantId, "b");
+        webSocketService.broadcastToDashboard(restaurantId, "c");
+
+        // Then
+        assertThat(meterRegistry.get("restaurantos.websocket.broadcasts").tag("topic", "kitchen").counter()
+                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get("restaurantos.websocket.broadcasts").tag("topic", "dashboard").counter()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get("restaurantos.websocket.broadcasts").tag("topic", "order").counter()
+                .count()).isZero();
     }
 }